@@ -7,7 +7,13 @@ import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitTask;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -31,12 +37,23 @@ import java.util.Optional;
 */
 public abstract class APlugin extends JavaPlugin implements ILogColorSupplier {
 
+  // Maximum time spent per tick on running queued main thread tasks
+  private static final long MAIN_THREAD_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
   // Keeps track of whether the plugin went into
   // disabling state (may not request any more tasks)
   private boolean disabling = false;
 
   private AutoConstructer ac;
 
+  // Hooks to be invoked after all resources have been cleaned up on disable
+  private final List<Runnable> disableHooks = new ArrayList<>();
+
+  // Tasks pushed by other threads, to be drained on the main thread each tick while
+  // there are any, the drainer is only scheduled as long as the queue is non-empty
+  private final Queue<Runnable> mainThreadQueue = new ConcurrentLinkedQueue<>();
+  private volatile BukkitTask mainThreadDrainer;
+
   @Override
   public void onEnable() {
     this.disabling = false;
@@ -61,9 +78,46 @@ public abstract class APlugin extends JavaPlugin implements ILogColorSupplier {
   public void onDisable() {
     this.disabling = true;
 
+    // Results which arrive from now on are of no interest anymore
+    synchronized (mainThreadQueue) {
+      if (mainThreadDrainer != null) {
+        mainThreadDrainer.cancel();
+        mainThreadDrainer = null;
+      }
+
+      mainThreadQueue.clear();
+    }
+
     // Call cleanup on all interested resources
     if (ac != null)
       ac.cleanup();
+
+    // Invoke hooks in reverse registration order, so that
+    // early registered resources (like loggers) are the last to go
+    List<Runnable> hooks;
+    synchronized (disableHooks) {
+      hooks = new ArrayList<>(disableHooks);
+      disableHooks.clear();
+    }
+
+    for (int i = hooks.size() - 1; i >= 0; i--) {
+      try {
+        hooks.get(i).run();
+      } catch (Exception e) {
+        getLogger().log(Level.SEVERE, "A disable hook threw an exception", e);
+      }
+    }
+  }
+
+  /**
+   * Register a hook which will be invoked when this plugin is being disabled,
+   * after all auto-constructed resources have been cleaned up
+   * @param hook Hook to invoke
+   */
+  public void addDisableHook(Runnable hook) {
+    synchronized (disableHooks) {
+      disableHooks.add(hook);
+    }
   }
 
   /**
@@ -111,6 +165,39 @@ public abstract class APlugin extends JavaPlugin implements ILogColorSupplier {
     return runTask(task, delay);
   }
 
+  /**
+   * Run a task on the main thread as soon as possible, which is the preferred way of
+   * handing results of other threads back. All such tasks are drained by a single
+   * repeating task in submission order, which spends a limited amount of time per tick
+   * and leaves the remaining tasks for the next tick, as opposed to scheduling a new
+   * task for each and every result. The drainer stops once the queue ran empty and is
+   * started again by the next pushed task.
+   * @param task Task to run
+   */
+  public void runOnMainThread(Runnable task) {
+    if (disabling)
+      return;
+
+    mainThreadQueue.add(task);
+
+    // Start the drainer if it's currently idle
+    if (mainThreadDrainer == null)
+      armMainThreadDrainer();
+  }
+
+  /**
+   * Run a task repeatedly after a certain amount of ticks elapsed
+   * @param task Task to run
+   * @param delay Delay to run this task in ticks for the first time
+   * @param period Period in ticks between consecutive runs
+   */
+  public BukkitTask runTaskTimer(Runnable task, long delay, long period) {
+    if (disabling)
+      return null;
+
+    return Bukkit.getScheduler().runTaskTimer(this, task, delay, period);
+  }
+
   /**
    * Run a task asynchronously on the next tick
    * @param task Task to run
@@ -135,6 +222,52 @@ public abstract class APlugin extends JavaPlugin implements ILogColorSupplier {
     return runTaskAsynchronously(task);
   }
 
+  /**
+   * Schedule the repeating drainer of the main thread queue, if it's not already running
+   */
+  private void armMainThreadDrainer() {
+    synchronized (mainThreadQueue) {
+      if (mainThreadDrainer == null && !disabling)
+        mainThreadDrainer = Bukkit.getScheduler().runTaskTimer(this, this::drainMainThreadQueue, 0, 1);
+    }
+  }
+
+  /**
+   * Run queued main thread tasks until either the queue is empty or the
+   * budget of this tick is used up, while always making some progress.
+   * Cancels the drainer once there's nothing left to run.
+   */
+  private void drainMainThreadQueue() {
+    long start = System.nanoTime();
+
+    Runnable task;
+    while ((task = mainThreadQueue.poll()) != null) {
+      // One misbehaving task may not keep the others from running
+      try {
+        task.run();
+      } catch (Exception e) {
+        getLogger().log(Level.SEVERE, "A main thread task threw an exception", e);
+      }
+
+      if (System.nanoTime() - start >= MAIN_THREAD_BUDGET_NANOS)
+        break;
+    }
+
+    if (!mainThreadQueue.isEmpty())
+      return;
+
+    synchronized (mainThreadQueue) {
+      if (mainThreadDrainer != null) {
+        mainThreadDrainer.cancel();
+        mainThreadDrainer = null;
+      }
+    }
+
+    // A task might have been pushed while still seeing the old drainer, so it's not left behind
+    if (!mainThreadQueue.isEmpty())
+      armMainThreadDrainer();
+  }
+
   @SuppressWarnings("unchecked")
   public <T> Optional<T> getAutoConstructed(Class<T> type) {
     return (Optional<T>) ac.getAllInstances().stream()
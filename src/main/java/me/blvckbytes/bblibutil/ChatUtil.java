@@ -199,7 +199,7 @@ public class ChatUtil implements Listener {
     target.setExpired(true);
 
     // Dispatch synchronously
-    plugin.runTask(() -> target.getChat().accept(message));
+    plugin.runOnMainThread(() -> target.getChat().accept(message));
   }
 
   @EventHandler
@@ -0,0 +1,317 @@
+package me.blvckbytes.bblibutil;
+
+import me.blvckbytes.bblibdi.AutoConstruct;
+import me.blvckbytes.bblibdi.AutoInject;
+import me.blvckbytes.bblibutil.component.IComponent;
+import net.md_5.bungee.api.ChatMessageType;
+import net.md_5.bungee.chat.ComponentSerializer;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Coalesces action bar and title updates per player into a last-write-wins slot
+  which is flushed once per tick, so only the update which will actually be visible
+  is serialized and sent. Updates carry a priority, where lower priorities can neither
+  replace pending updates of a higher priority, nor overwrite them while being displayed.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@AutoConstruct
+public class DisplayScheduler implements Listener {
+
+  // Priority used when none has been specified
+  public static final int DEFAULT_PRIORITY = 0;
+
+  // Number of ticks an action bar message is displayed by the client
+  private static final int ACTION_BAR_TICKS = 60;
+
+  // Slot indices within a player's slot array
+  private static final int SLOT_ACTION_BAR = 0, SLOT_TITLE = 1;
+
+  private final Map<Player, DisplaySlot[]> slots;
+  private final AtomicBoolean flushScheduled;
+  private final APlugin plugin;
+
+  private @Nullable BukkitTask flushTask;
+
+  public DisplayScheduler(
+    @AutoInject APlugin plugin
+  ) {
+    this.slots = new ConcurrentHashMap<>();
+    this.flushScheduled = new AtomicBoolean(false);
+    this.plugin = plugin;
+  }
+
+  //=========================================================================//
+  //                                    API                                  //
+  //=========================================================================//
+
+  /**
+   * Schedule an action bar message to be displayed on the next flush
+   * @param p Target player
+   * @param message Message to display
+   */
+  public void sendActionBar(Player p, IComponent message) {
+    sendActionBar(p, message, DEFAULT_PRIORITY);
+  }
+
+  /**
+   * Schedule an action bar message to be displayed on the next flush
+   * @param p Target player
+   * @param message Message to display
+   * @param priority Priority of this message, higher values win
+   */
+  public void sendActionBar(Player p, IComponent message, int priority) {
+    offer(p, SLOT_ACTION_BAR, new PendingDisplay(priority, message, null, 0, ACTION_BAR_TICKS, 0));
+  }
+
+  /**
+   * Schedule a title to be displayed on the next flush
+   * @param p Target player
+   * @param title Title to display, null to only display the subtitle
+   * @param subtitle Subtitle to display, null to only display the title
+   * @param fadeIn Fade in duration in ticks
+   * @param stay Stay duration in ticks
+   * @param fadeOut Fade out duration in ticks
+   */
+  public void sendTitle(Player p, @Nullable IComponent title, @Nullable IComponent subtitle, int fadeIn, int stay, int fadeOut) {
+    sendTitle(p, title, subtitle, fadeIn, stay, fadeOut, DEFAULT_PRIORITY);
+  }
+
+  /**
+   * Schedule a title to be displayed on the next flush
+   * @param p Target player
+   * @param title Title to display, null to only display the subtitle
+   * @param subtitle Subtitle to display, null to only display the title
+   * @param fadeIn Fade in duration in ticks
+   * @param stay Stay duration in ticks
+   * @param fadeOut Fade out duration in ticks
+   * @param priority Priority of this title, higher values win
+   */
+  public void sendTitle(
+    Player p,
+    @Nullable IComponent title,
+    @Nullable IComponent subtitle,
+    int fadeIn, int stay, int fadeOut,
+    int priority
+  ) {
+    offer(p, SLOT_TITLE, new PendingDisplay(priority, title, subtitle, fadeIn, stay, fadeOut));
+  }
+
+  //=========================================================================//
+  //                                 Listener                                //
+  //=========================================================================//
+
+  @EventHandler
+  public void onQuit(PlayerQuitEvent e) {
+    // Drop all pending displays on quit
+    slots.remove(e.getPlayer());
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * A single display update which is waiting to be flushed
+   */
+  private static class PendingDisplay {
+    private final int priority;
+    private final @Nullable IComponent primary, secondary;
+    private final int fadeIn, stay, fadeOut;
+
+    private PendingDisplay(
+      int priority,
+      @Nullable IComponent primary,
+      @Nullable IComponent secondary,
+      int fadeIn, int stay, int fadeOut
+    ) {
+      this.priority = priority;
+      this.primary = primary;
+      this.secondary = secondary;
+      this.fadeIn = fadeIn;
+      this.stay = stay;
+      this.fadeOut = fadeOut;
+    }
+
+    /**
+     * Get the number of milliseconds this display will be visible for
+     */
+    private long getVisibleMillis() {
+      return (fadeIn + stay) * 50L;
+    }
+  }
+
+  /**
+   * Holds the pending update of a display as well as the
+   * state of the currently visible update
+   */
+  private static class DisplaySlot {
+    private final AtomicReference<PendingDisplay> pending = new AtomicReference<>();
+
+    // Only accessed from the main thread while flushing
+    private int visiblePriority;
+    private long visibleUntil;
+  }
+
+  /**
+   * Offer a new update to a player's display slot, which replaces the
+   * pending update if it has a priority at least as high as the pending one
+   * @param p Target player
+   * @param slotIndex Index of the display slot
+   * @param display Display update
+   */
+  private void offer(Player p, int slotIndex, PendingDisplay display) {
+    // Don't re-create the slots of a player who already left
+    if (!p.isOnline())
+      return;
+
+    DisplaySlot slot = slots.computeIfAbsent(p, k -> new DisplaySlot[] { new DisplaySlot(), new DisplaySlot() })[slotIndex];
+
+    while (true) {
+      PendingDisplay current = slot.pending.get();
+
+      // A more important update is already pending
+      if (current != null && current.priority > display.priority)
+        return;
+
+      if (slot.pending.compareAndSet(current, display))
+        break;
+    }
+
+    ensureFlushScheduled();
+  }
+
+  /**
+   * Make sure that the repeating flush task is running
+   */
+  private void ensureFlushScheduled() {
+    if (!flushScheduled.compareAndSet(false, true))
+      return;
+
+    // Schedule on the main thread, as offers may come in asynchronously
+    plugin.runTaskAlways(() -> {
+      flushTask = plugin.runTaskTimer(this::flush, 0, 1);
+
+      // The plugin is disabling and no more tasks can be scheduled
+      if (flushTask == null)
+        flushScheduled.set(false);
+    });
+  }
+
+  /**
+   * Flush all pending display updates, only sending the winner per slot
+   */
+  private void flush() {
+    boolean flushedAny = false;
+    long now = System.currentTimeMillis();
+
+    for (Iterator<Map.Entry<Player, DisplaySlot[]>> it = slots.entrySet().iterator(); it.hasNext();) {
+      Map.Entry<Player, DisplaySlot[]> entry = it.next();
+      Player p = entry.getKey();
+      DisplaySlot[] playerSlots = entry.getValue();
+
+      // Asynchronous offers may have raced with the player quitting
+      if (!p.isOnline()) {
+        it.remove();
+        continue;
+      }
+
+      for (int i = 0; i < playerSlots.length; i++) {
+        DisplaySlot slot = playerSlots[i];
+        PendingDisplay display = slot.pending.getAndSet(null);
+
+        if (display == null)
+          continue;
+
+        flushedAny = true;
+
+        // A more important update is still visible, discard
+        if (display.priority < slot.visiblePriority && now < slot.visibleUntil)
+          continue;
+
+        slot.visiblePriority = display.priority;
+        slot.visibleUntil = now + display.getVisibleMillis();
+
+        if (i == SLOT_ACTION_BAR)
+          sendActionBarNow(p, display);
+        else
+          sendTitleNow(p, display);
+      }
+    }
+
+    // Still busy, keep on flushing
+    if (flushedAny)
+      return;
+
+    // Stop the task while idle
+    if (flushTask != null) {
+      flushTask.cancel();
+      flushTask = null;
+    }
+
+    flushScheduled.set(false);
+
+    // An offer might have slipped in while stopping
+    for (DisplaySlot[] playerSlots : slots.values()) {
+      for (DisplaySlot slot : playerSlots) {
+        if (slot.pending.get() != null) {
+          ensureFlushScheduled();
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Serialize and send an action bar update
+   * @param p Target player
+   * @param display Display update
+   */
+  private void sendActionBarNow(Player p, PendingDisplay display) {
+    if (display.primary == null)
+      return;
+
+    p.spigot().sendMessage(
+      ChatMessageType.ACTION_BAR,
+      ComponentSerializer.parse(display.primary.toJson(true).toString())
+    );
+  }
+
+  /**
+   * Serialize and send a title update
+   * @param p Target player
+   * @param display Display update
+   */
+  private void sendTitleNow(Player p, PendingDisplay display) {
+    p.sendTitle(
+      display.primary == null ? "" : display.primary.toPlainText(),
+      display.secondary == null ? "" : display.secondary.toPlainText(),
+      display.fadeIn, display.stay, display.fadeOut
+    );
+  }
+}
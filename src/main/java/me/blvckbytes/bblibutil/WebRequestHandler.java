@@ -1,16 +1,32 @@
 package me.blvckbytes.bblibutil;
 
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 import me.blvckbytes.bblibdi.AutoConstruct;
 import me.blvckbytes.bblibdi.AutoInject;
 import me.blvckbytes.bblibutil.logger.ILogger;
+import me.blvckbytes.bblibutil.web.HttpEngine;
+import me.blvckbytes.bblibutil.web.ResponseCache;
+import me.blvckbytes.bblibutil.web.RequestScheduler;
+import me.blvckbytes.bblibutil.web.SingleFlight;
+import me.blvckbytes.bblibutil.web.WebStatusException;
+import me.blvckbytes.bblibutil.web.WebRequest;
+import me.blvckbytes.bblibutil.web.WebResponse;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
 import java.net.URL;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.BiConsumer;
-import java.util.stream.Collectors;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -34,52 +50,268 @@ import java.util.stream.Collectors;
 @AutoConstruct
 public class WebRequestHandler {
 
+  private static final Gson GSON = new Gson();
+
   private final APlugin plugin;
   private final ILogger logger;
+  private final HttpEngine engine;
+  private final ResponseCache cache;
+  private final RequestScheduler scheduler;
+
+  // Concurrent identical requests share a single request
+  private final SingleFlight<String, WebResponse> flights;
 
   public WebRequestHandler(
     @AutoInject APlugin plugin,
-    @AutoInject ILogger logger
+    @AutoInject ILogger logger,
+    @AutoInject HttpEngine engine,
+    @AutoInject ResponseCache cache,
+    @AutoInject RequestScheduler scheduler
   ) {
     this.plugin = plugin;
     this.logger = logger;
+    this.engine = engine;
+    this.cache = cache;
+    this.scheduler = scheduler;
+    this.flights = new SingleFlight<>();
+  }
+
+  /**
+   * Perform a request without blocking any threads while waiting for the response,
+   * where GET requests are answered from or revalidated against the response cache
+   * and identical requests which are already in flight are joined instead of repeated.
+   * Requests which actually hit the network are subject to the scheduler's per-host limits.
+   * @param request Request to perform
+   * @return Future of the response, which completes exceptionally on network errors, timeouts,
+   *         exceeded deadlines or if the scheduler's queue is full
+   */
+  public CompletableFuture<WebResponse> request(WebRequest request) {
+    if (!isCoalescable(request))
+      return cache.execute(request, this::transport);
+
+    return flights.execute(flightKeyOf(request), () -> cache.execute(request, this::transport));
   }
 
   /**
    * Perform a GET request on a given URL
    * @param url URL to request
    * @param result Result callback, returns a status of -1 on internal errors
+   *               and a null body if the status doesn't represent success
    * @param synchronize Whether to synchronize the callback with the main thread
    */
   public void get(URL url, BiConsumer<Integer, @Nullable String> result, boolean synchronize) {
-    plugin.runTaskAsynchronously(() -> {
-      try {
-        // Create a new GET request
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        connection.setRequestMethod("GET");
-        connection.connect();
+    CompletableFuture<WebResponse> response;
 
-        // Check that the status code actually represents success in order to avoid exceptions
-        int code = connection.getResponseCode();
-        if (code != 200)
-          optionalSynchronize(() -> result.accept(code, null), synchronize);
+    try {
+      response = request(WebRequest.get(url));
+    } catch (Exception e) {
+      response = CompletableFuture.failedFuture(e);
+    }
 
-        // Read the body contents into a string
-        InputStreamReader sr = new InputStreamReader(connection.getInputStream());
-        BufferedReader br = new BufferedReader(sr);
-        String body = br.lines().collect(Collectors.joining());
+    response.whenComplete((res, error) -> {
+      if (error != null) {
+        logger.logError(unwrap(error));
+        optionalSynchronize(() -> result.accept(-1, null), synchronize);
+        return;
+      }
 
-        br.close();
-        sr.close();
+      // Only pass the body on success, as it's most likely an error page otherwise
+      int code = res.getStatus();
+      String body = code == 200 ? res.getBody() : null;
 
-        optionalSynchronize(() -> result.accept(code, body), synchronize);
-      } catch (Exception e) {
-        logger.logError(e);
-        optionalSynchronize(() -> result.accept(-1, null), synchronize);
+      optionalSynchronize(() -> result.accept(code, body), synchronize);
+    });
+  }
+
+  /**
+   * Perform a request and decode it's JSON body into an object of a given type
+   * @param request Request to perform
+   * @param type Type to decode into
+   * @return Future of the decoded object, see {@link #requestJson(WebRequest, TypeToken)}
+   */
+  public <T> CompletableFuture<T> requestJson(WebRequest request, Class<T> type) {
+    return requestJson(request, TypeToken.get(type));
+  }
+
+  /**
+   * Perform a request and decode it's JSON body into an object of a given type. The body is
+   * streamed straight into the decoder while it's being received, so it's never held as text.
+   * Unlike {@link #request(WebRequest)}, this neither consults the response cache nor joins
+   * identical requests which are already in flight, as there's no text body to share.
+   * @param request Request to perform
+   * @param type Type to decode into
+   * @return Future of the decoded object, which completes exceptionally on network errors,
+   *         timeouts, malformed JSON or with a {@link WebStatusException} on unsuccessful statuses
+   */
+  public <T> CompletableFuture<T> requestJson(WebRequest request, TypeToken<T> type) {
+    return requestDecodedJson(request, type).thenApply(decoded -> decoded.value);
+  }
+
+  /**
+   * Perform a request and decode it's JSON body while keeping the status of it's response
+   * @param request Request to perform
+   * @param type Type to decode into
+   * @return Future of the decoded object and status, see {@link #requestJson(WebRequest, TypeToken)}
+   */
+  private <T> CompletableFuture<DecodedJson<T>> requestDecodedJson(WebRequest request, TypeToken<T> type) {
+    WebRequest actual = request;
+
+    if (!request.getHeaders().containsKey("Accept"))
+      actual = request.copy().header("Accept", "application/json");
+
+    // Decode within the attempt, so that temporary failure statuses are retried
+    return scheduler.submit(actual, r -> engine.send(r, HttpResponse.BodyHandlers.ofInputStream())
+      .thenCompose(response -> {
+        CompletableFuture<DecodedJson<T>> decoded = new CompletableFuture<>();
+
+        try {
+          engine.getBlockingExecutor().execute(() -> {
+            try (
+              InputStream body = response.body();
+              JsonReader reader = new JsonReader(new InputStreamReader(body, charsetOf(response)))
+            ) {
+              if (response.statusCode() < 200 || response.statusCode() >= 300)
+                throw new WebStatusException(response.statusCode(), request);
+
+              decoded.complete(new DecodedJson<>(response.statusCode(), GSON.fromJson(reader, type.getType())));
+            } catch (Exception e) {
+              decoded.completeExceptionally(e);
+            }
+          });
+        } catch (RejectedExecutionException e) {
+          // Nobody is going to read the body, release the connection
+          try {
+            response.body().close();
+          } catch (IOException closeError) {
+            e.addSuppressed(closeError);
+          }
+
+          decoded.completeExceptionally(e);
+        }
+
+        return decoded;
+      }));
+  }
+
+  /**
+   * Perform a GET request on a given URL and decode it's JSON body
+   * @param url URL to request
+   * @param type Type to decode into
+   * @param result Result callback, see {@link #getJson(URL, TypeToken, BiConsumer, boolean)}
+   * @param synchronize Whether to synchronize the callback with the main thread
+   */
+  public <T> void getJson(URL url, Class<T> type, BiConsumer<Integer, @Nullable T> result, boolean synchronize) {
+    getJson(url, TypeToken.get(type), result, synchronize);
+  }
+
+  /**
+   * Perform a GET request on a given URL and decode it's JSON body, where decoding
+   * happens off the main thread and only the decoded object is handed to the callback.
+   * Unlike {@link #get(URL, BiConsumer, boolean)}, this bypasses the response cache and
+   * doesn't join identical requests in flight, see {@link #requestJson(WebRequest, TypeToken)}
+   * @param url URL to request
+   * @param type Type to decode into
+   * @param result Result callback, receives the response's status, -1 on internal errors (including
+   *               malformed JSON) and a null object if the status doesn't represent success
+   * @param synchronize Whether to synchronize the callback with the main thread
+   */
+  public <T> void getJson(URL url, TypeToken<T> type, BiConsumer<Integer, @Nullable T> result, boolean synchronize) {
+    CompletableFuture<DecodedJson<T>> response;
+
+    try {
+      response = requestDecodedJson(WebRequest.get(url), type);
+    } catch (Exception e) {
+      response = CompletableFuture.failedFuture(e);
+    }
+
+    response.whenComplete((decoded, error) -> {
+      if (error == null) {
+        optionalSynchronize(() -> result.accept(decoded.status, decoded.value), synchronize);
+        return;
+      }
+
+      Exception cause = unwrap(error);
+
+      // Unsuccessful status, not an internal error
+      if (cause instanceof WebStatusException) {
+        int status = ((WebStatusException) cause).getStatus();
+        optionalSynchronize(() -> result.accept(status, null), synchronize);
+        return;
       }
+
+      logger.logError(cause);
+      optionalSynchronize(() -> result.accept(-1, null), synchronize);
     });
   }
 
+  /**
+   * Send a request over the network, as soon as the scheduler's limits allow for it
+   * @param request Request to send
+   */
+  private CompletableFuture<WebResponse> transport(WebRequest request) {
+    return scheduler.submit(request, engine::send);
+  }
+
+  /**
+   * Get the charset of a response by it's content type, defaulting to UTF-8
+   */
+  private Charset charsetOf(HttpResponse<?> response) {
+    String contentType = response.headers().firstValue("Content-Type").orElse("");
+
+    for (String parameter : contentType.split(";")) {
+      parameter = parameter.trim();
+
+      if (!parameter.regionMatches(true, 0, "charset=", 0, 8))
+        continue;
+
+      try {
+        return Charset.forName(parameter.substring(8).replace("\"", "").trim());
+      } catch (Exception e) {
+        break;
+      }
+    }
+
+    return StandardCharsets.UTF_8;
+  }
+
+  /**
+   * Checks whether a request may share it's response with identical requests,
+   * which only applies to reading requests without a body
+   */
+  private boolean isCoalescable(WebRequest request) {
+    String method = request.getMethod();
+    return (method.equals("GET") || method.equals("HEAD")) && request.getBody() == null;
+  }
+
+  /**
+   * Build the key which identifies identical requests, made up of the method, the URI and all headers
+   */
+  private String flightKeyOf(WebRequest request) {
+    StringBuilder key = new StringBuilder(request.getMethod()).append(' ').append(request.getUri());
+
+    // Headers are sorted by their name already
+    for (Map.Entry<String, String> header : request.getHeaders().entrySet())
+      key.append('\n').append(header.getKey().toLowerCase()).append(':').append(header.getValue());
+
+    return key.toString();
+  }
+
+  /**
+   * Unwrap the actual cause of a failed future into a loggable exception
+   * @param error Error the future completed with
+   */
+  private Exception unwrap(Throwable error) {
+    Throwable cause = error;
+
+    if (cause instanceof CompletionException && cause.getCause() != null)
+      cause = cause.getCause();
+
+    if (cause instanceof Exception)
+      return (Exception) cause;
+
+    return new RuntimeException(cause);
+  }
+
   /**
    * Optionally synchronizes the given runnable with the main thread
    * @param r Runnable to synchronize
@@ -87,10 +319,24 @@ public class WebRequestHandler {
    */
   private void optionalSynchronize(Runnable r, boolean synchronize) {
     if (synchronize) {
-      plugin.runTask(r);
+      plugin.runOnMainThread(r);
       return;
     }
 
     r.run();
   }
+
+  /**
+   * A decoded JSON body alongside the status of it's response
+   */
+  private static class DecodedJson<T> {
+
+    private final int status;
+    private final @Nullable T value;
+
+    private DecodedJson(int status, @Nullable T value) {
+      this.status = status;
+      this.value = value;
+    }
+  }
 }
@@ -0,0 +1,392 @@
+package me.blvckbytes.bblibutil.component;
+
+import me.blvckbytes.bblibdi.AutoConstruct;
+import me.blvckbytes.bblibdi.AutoInject;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Wraps component trees into multiple lines by either a maximum number of
+  characters or a maximum pixel width. The tree is streamed in a single pass
+  while carrying inherited colors, formattings, click- and hover actions as
+  well as in-text legacy sequences across line breaks, so no re-parsing is required.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@AutoConstruct
+public class ComponentWrapper {
+
+  private final TextMeasurer measurer;
+
+  public ComponentWrapper(
+    @AutoInject TextMeasurer measurer
+  ) {
+    this.measurer = measurer;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Wrap a component into multiple lines which contain at most the
+   * specified number of characters (unless a single word exceeds it)
+   * @param component Component to wrap
+   * @param maxChars Maximum number of characters per line
+   * @return List of wrapped lines
+   */
+  public List<TextComponent> wrapByChars(IComponent component, int maxChars) {
+    WrapState state = new WrapState(maxChars, false);
+    walk(component, Style.ROOT, state);
+    return state.finish();
+  }
+
+  /**
+   * Wrap a component into multiple lines which are at most the
+   * specified number of pixels wide (unless a single word exceeds it)
+   * @param component Component to wrap
+   * @param maxWidth Maximum width in pixels per line
+   * @return List of wrapped lines
+   */
+  public List<TextComponent> wrapByWidth(IComponent component, int maxWidth) {
+    WrapState state = new WrapState(maxWidth, true);
+    walk(component, Style.ROOT, state);
+    return state.finish();
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Effective style of a text run, resolved from the component's inheritance chain
+   */
+  private static class Style {
+
+    private static final Style ROOT = new Style(null, new boolean[TextFormatting.values.length], null, null, null, null);
+
+    private final @Nullable String color;
+    private final boolean[] formatting;
+    private final @Nullable ClickAction clickAction;
+    private final @Nullable String clickValue;
+    private final @Nullable HoverAction hoverAction;
+    private final @Nullable IComponent hoverValue;
+
+    private Style(
+      @Nullable String color,
+      boolean[] formatting,
+      @Nullable ClickAction clickAction,
+      @Nullable String clickValue,
+      @Nullable HoverAction hoverAction,
+      @Nullable IComponent hoverValue
+    ) {
+      this.color = color;
+      this.formatting = formatting;
+      this.clickAction = clickAction;
+      this.clickValue = clickValue;
+      this.hoverAction = hoverAction;
+      this.hoverValue = hoverValue;
+    }
+
+    /**
+     * Derive the style of a child component, where all properties
+     * the child doesn't specify are inherited from this style
+     * @param child Child component
+     * @return Derived style
+     */
+    private Style derive(TextComponent child) {
+      boolean[] fmts = new boolean[formatting.length];
+      boolean[] childFmts = child.getFormatting();
+
+      for (int i = 0; i < fmts.length; i++)
+        fmts[i] = formatting[i] || (i < childFmts.length && childFmts[i]);
+
+      boolean ownClick = child.getClickAction() != null;
+      boolean ownHover = child.getHoverAction() != null;
+
+      return new Style(
+        child.getColor() != null ? child.getColor() : color,
+        fmts,
+        ownClick ? child.getClickAction() : clickAction,
+        ownClick ? child.getClickValue() : clickValue,
+        ownHover ? child.getHoverAction() : hoverAction,
+        ownHover ? child.getHoverValue() : hoverValue
+      );
+    }
+
+    private boolean isBold() {
+      return formatting[TextFormatting.BOLD.ordinal()];
+    }
+  }
+
+  /**
+   * A continuous piece of text which shares the same style and legacy sequence prefix
+   */
+  private static class Segment {
+    private final Style style;
+    private final String legacyPrefix;
+    private final StringBuilder text;
+
+    private Segment(Style style, String legacyPrefix) {
+      this.style = style;
+      this.legacyPrefix = legacyPrefix;
+      this.text = new StringBuilder();
+    }
+
+    /**
+     * Create a standalone component from this segment
+     */
+    private TextComponent toComponent() {
+      TextComponent res = new TextComponent(legacyPrefix + text, style.color, style.formatting);
+
+      if (style.clickAction != null && style.clickValue != null)
+        res.setClick(style.clickAction, style.clickValue);
+
+      if (style.hoverAction != null && style.hoverValue != null)
+        res.setHover(style.hoverAction, style.hoverValue);
+
+      return res;
+    }
+  }
+
+  /**
+   * An ordered list of segments as well as their total measured size
+   */
+  private static class SegmentList {
+    private final List<Segment> segments = new ArrayList<>();
+    private int size;
+
+    /**
+     * Append a character, which will be merged into the last
+     * segment if it shares the same style and prefix
+     */
+    private void append(char c, int charSize, Style style, String legacyPrefix) {
+      Segment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+
+      if (last == null || last.style != style || !last.legacyPrefix.equals(legacyPrefix)) {
+        last = new Segment(style, legacyPrefix);
+        segments.add(last);
+      }
+
+      last.text.append(c);
+      size += charSize;
+    }
+
+    /**
+     * Move all segments of another list to the end of this list
+     */
+    private void transferFrom(SegmentList other) {
+      for (Segment segment : other.segments) {
+        Segment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+
+        // Merge neighbouring segments of the same kind to keep the component count low
+        if (last != null && last.style == segment.style && last.legacyPrefix.equals(segment.legacyPrefix)) {
+          last.text.append(segment.text);
+          continue;
+        }
+
+        segments.add(segment);
+      }
+
+      size += other.size;
+      other.clear();
+    }
+
+    private boolean isEmpty() {
+      return segments.isEmpty();
+    }
+
+    private void clear() {
+      segments.clear();
+      size = 0;
+    }
+  }
+
+  /**
+   * Streaming state of a single wrap operation
+   */
+  private class WrapState {
+    private final int max;
+    private final boolean measurePixels;
+
+    private final List<TextComponent> lines;
+    private final SegmentList line, spaces, word;
+
+    private WrapState(int max, boolean measurePixels) {
+      this.max = max;
+      this.measurePixels = measurePixels;
+      this.lines = new ArrayList<>();
+      this.line = new SegmentList();
+      this.spaces = new SegmentList();
+      this.word = new SegmentList();
+    }
+
+    /**
+     * Measure the size of a single character in the active mode
+     */
+    private int measure(char c, boolean bold) {
+      return measurePixels ? measurer.getAdvance(c, bold) : 1;
+    }
+
+    /**
+     * Process a single character of a text run
+     */
+    private void accept(char c, boolean bold, Style style, String legacyPrefix) {
+      // Forced line break
+      if (c == '\n') {
+        flushWord();
+        breakLine();
+        return;
+      }
+
+      int size = measure(c, bold);
+
+      // Word boundary, spaces are kept pending until the next word
+      // is known to fit, as they're dropped at the end of lines
+      if (c == ' ') {
+        flushWord();
+
+        if (!line.isEmpty())
+          spaces.append(c, size, style, legacyPrefix);
+
+        return;
+      }
+
+      // This word alone exceeds the line, split it forcefully
+      if (!word.isEmpty() && word.size + size > max) {
+        if (!line.isEmpty())
+          breakLine();
+
+        line.transferFrom(word);
+        breakLine();
+      }
+
+      word.append(c, size, style, legacyPrefix);
+    }
+
+    /**
+     * Move the pending word into the current line, break if it doesn't fit anymore
+     */
+    private void flushWord() {
+      if (word.isEmpty())
+        return;
+
+      if (!line.isEmpty() && line.size + spaces.size + word.size > max)
+        breakLine();
+
+      if (!line.isEmpty())
+        line.transferFrom(spaces);
+
+      spaces.clear();
+      line.transferFrom(word);
+    }
+
+    /**
+     * Turn the current line into a component and start a new line
+     */
+    private void breakLine() {
+      TextComponent head = new TextComponent(null);
+
+      for (Segment segment : line.segments)
+        head.addSibling(segment.toComponent());
+
+      lines.add(head);
+      line.clear();
+      spaces.clear();
+    }
+
+    /**
+     * Flush all pending state and retrieve the resulting lines
+     */
+    private List<TextComponent> finish() {
+      flushWord();
+
+      if (!line.isEmpty() || lines.isEmpty())
+        breakLine();
+
+      return lines;
+    }
+  }
+
+  /**
+   * Walk a component tree in order while resolving styles
+   * @param component Component to walk
+   * @param parent Style of the parent component
+   * @param state Wrapping state to feed text into
+   */
+  private void walk(IComponent component, Style parent, WrapState state) {
+    if (component instanceof TextComponent) {
+      TextComponent text = (TextComponent) component;
+      Style style = parent.derive(text);
+
+      if (text.getText() != null)
+        walkText(text.getText(), style, state);
+
+      for (IComponent sibling : text.getSiblings())
+        walk(sibling, style, state);
+
+      return;
+    }
+
+    if (component instanceof LazyComponent) {
+      walk(((LazyComponent) component).resolve(), parent, state);
+      return;
+    }
+
+    // Unknown component, fall back to it's plain text representation
+    walkText(component.toPlainText(), parent, state);
+  }
+
+  /**
+   * Feed a run of text into the wrapping state, where legacy sequences
+   * are collected into a prefix which is carried over line breaks
+   * @param text Text to feed
+   * @param style Style of the text
+   * @param state Wrapping state to feed text into
+   */
+  private void walkText(String text, Style style, WrapState state) {
+    String legacyPrefix = "";
+    boolean bold = style.isBold();
+
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+
+      // Regular character
+      if (c != '§' || i == text.length() - 1) {
+        state.accept(c, bold, style, legacyPrefix);
+        continue;
+      }
+
+      char marker = Character.toLowerCase(text.charAt(++i));
+      boolean isColor = (marker >= '0' && marker <= '9') || (marker >= 'a' && marker <= 'f') || marker == 'r';
+
+      // Colors reset all previous sequences, including bold formatting
+      if (isColor) {
+        legacyPrefix = "§" + marker;
+        bold = false;
+        continue;
+      }
+
+      legacyPrefix += "§" + marker;
+
+      if (marker == TextFormatting.BOLD.getMarker())
+        bold = true;
+    }
+  }
+}
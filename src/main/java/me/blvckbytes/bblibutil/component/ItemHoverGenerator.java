@@ -0,0 +1,215 @@
+package me.blvckbytes.bblibutil.component;
+
+import me.blvckbytes.bblibdi.AutoConstruct;
+import me.blvckbytes.bblibdi.AutoInject;
+import me.blvckbytes.bblibutil.logger.ILogger;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Generates SHOW_ITEM hover values from bukkit item stacks by serializing their
+  NBT data. Serialized items are cached by their fingerprint (type, amount and
+  meta), so that showing the same item over and over again won't re-serialize it.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@AutoConstruct
+public class ItemHoverGenerator {
+
+  // Maximum number of serialized items to keep around
+  private static final int MAX_CACHE_SIZE = 512;
+
+  private final ILogger logger;
+  private final Map<ItemFingerprint, String> cache;
+
+  // Reflective handles into the server internals, resolved on first use
+  private boolean reflectionResolved;
+  private @Nullable Method asNMSCopy, save;
+  private @Nullable Class<?> nbtCompoundC;
+
+  public ItemHoverGenerator(
+    @AutoInject ILogger logger
+  ) {
+    this.logger = logger;
+
+    // Access ordered map which evicts the least recently used item when full
+    this.cache = new LinkedHashMap<>(64, .75F, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<ItemFingerprint, String> eldest) {
+        return size() > MAX_CACHE_SIZE;
+      }
+    };
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Build the hover value component for a given item, which is to be used
+   * in combination with the {@link HoverAction#SHOW_ITEM} action
+   * @param item Item to display
+   * @return Hover value component
+   */
+  public TextComponent buildHover(ItemStack item) {
+    return new TextComponent(serializeItem(item));
+  }
+
+  /**
+   * Apply a SHOW_ITEM hover displaying the given item to a component
+   * @param target Component to apply the hover to
+   * @param item Item to display
+   */
+  public void applyHover(TextComponent target, ItemStack item) {
+    target.setHover(HoverAction.SHOW_ITEM, buildHover(item));
+  }
+
+  /**
+   * Serialize an item into it's stringified NBT representation, which
+   * will be served from the cache if an equal item has been serialized before
+   * @param item Item to serialize
+   * @return Stringified NBT data
+   */
+  public String serializeItem(ItemStack item) {
+    ItemFingerprint fingerprint = new ItemFingerprint(item);
+
+    synchronized (cache) {
+      String cached = cache.get(fingerprint);
+      if (cached != null)
+        return cached;
+    }
+
+    String res = serializeNBT(item);
+
+    synchronized (cache) {
+      cache.put(fingerprint, res);
+    }
+
+    return res;
+  }
+
+  /**
+   * Clear all cached item serializations
+   */
+  public void clearCache() {
+    synchronized (cache) {
+      cache.clear();
+    }
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Identifies an item by it's type, amount and meta, where the meta's
+   * hash is computed once up front to make lookups cheap
+   */
+  private static class ItemFingerprint {
+    private final Material type;
+    private final int amount;
+    private final @Nullable ItemMeta meta;
+    private final int hash;
+
+    private ItemFingerprint(ItemStack item) {
+      this.type = item.getType();
+      this.amount = item.getAmount();
+      this.meta = item.hasItemMeta() ? item.getItemMeta() : null;
+      this.hash = Objects.hash(type, amount, meta == null ? 0 : meta.hashCode());
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o)
+        return true;
+
+      if (!(o instanceof ItemFingerprint))
+        return false;
+
+      ItemFingerprint other = (ItemFingerprint) o;
+      return (
+        hash == other.hash &&
+        amount == other.amount &&
+        type == other.type &&
+        Objects.equals(meta, other.meta)
+      );
+    }
+  }
+
+  /**
+   * Serialize an item's NBT data by making use of the server's internals and
+   * fall back to a tag-less notation if these are not available
+   * @param item Item to serialize
+   * @return Stringified NBT data
+   */
+  private String serializeNBT(ItemStack item) {
+    resolveReflection();
+
+    if (asNMSCopy != null && save != null && nbtCompoundC != null) {
+      try {
+        Object nmsItem = asNMSCopy.invoke(null, item);
+        Object compound = save.invoke(nmsItem, nbtCompoundC.getConstructor().newInstance());
+        return compound.toString();
+      } catch (Exception e) {
+        logger.logError(e);
+      }
+    }
+
+    return "{id:\"" + item.getType().getKey() + "\",Count:" + item.getAmount() + "b}";
+  }
+
+  /**
+   * Resolve all reflective handles required to serialize items
+   * once, if that hasn't been attempted yet
+   */
+  private synchronized void resolveReflection() {
+    if (reflectionResolved)
+      return;
+
+    reflectionResolved = true;
+
+    try {
+      // The craftbukkit package contains the version, like org.bukkit.craftbukkit.v1_13_R2
+      String cbPackage = Bukkit.getServer().getClass().getPackage().getName();
+      String version = cbPackage.substring(cbPackage.lastIndexOf('.') + 1);
+
+      Class<?> craftItemStackC = Class.forName(cbPackage + ".inventory.CraftItemStack");
+      Class<?> nmsItemStackC = Class.forName("net.minecraft.server." + version + ".ItemStack");
+      Class<?> compoundC = Class.forName("net.minecraft.server." + version + ".NBTTagCompound");
+
+      this.asNMSCopy = craftItemStackC.getMethod("asNMSCopy", ItemStack.class);
+      this.save = nmsItemStackC.getMethod("save", compoundC);
+      this.nbtCompoundC = compoundC;
+    } catch (Exception e) {
+      logger.logError("Could not resolve the item serialization internals, falling back to tag-less items");
+      logger.logError(e);
+    }
+  }
+}
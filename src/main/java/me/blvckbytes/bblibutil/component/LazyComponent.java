@@ -0,0 +1,157 @@
+package me.blvckbytes.bblibutil.component;
+
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  A component which defers building it's actual contents until they're
+  requested for the first time by a serialization call. The produced
+  component as well as it's serialized forms are memoized per mode, so
+  the supplier and the serialization only ever run once.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class LazyComponent implements IComponent {
+
+  // Supplier of the actual component, released after it has been called
+  private @Nullable Supplier<? extends IComponent> supplier;
+  private volatile @Nullable IComponent resolved;
+
+  // Memoized serializations, the JSON index is the approximation mode (0=hex, 1=approximated)
+  private final JsonObject[] jsonCache;
+  private volatile @Nullable String plainTextCache;
+
+  // Memoized pixel widths, indexed by whether bold formatting has been inherited (0=no, 1=yes)
+  private final int[] widthCache;
+
+  /**
+   * Create a new lazy component which will call the supplier on first use
+   * @param supplier Supplier of the component to be displayed
+   */
+  public LazyComponent(Supplier<? extends IComponent> supplier) {
+    this.supplier = supplier;
+    this.jsonCache = new JsonObject[2];
+    this.widthCache = new int[] { -1, -1 };
+  }
+
+  /**
+   * Create a new lazy component which only evaluates it's text on first use
+   * @param text Supplier of the component's text value
+   */
+  public static LazyComponent ofText(Supplier<String> text) {
+    return new LazyComponent(() -> new TextComponent(text.get()));
+  }
+
+  /**
+   * Resolve the underlying component by calling the supplier, if
+   * that hasn't happened yet, and memoize it's result
+   * @return Resolved component
+   */
+  public IComponent resolve() {
+    IComponent res = this.resolved;
+
+    if (res != null)
+      return res;
+
+    synchronized (this) {
+      // Another thread resolved in the meantime
+      if (this.resolved != null)
+        return this.resolved;
+
+      // Supplier results of null are treated as an empty component
+      res = supplier == null ? null : supplier.get();
+      if (res == null)
+        res = new TextComponent(null);
+
+      this.resolved = res;
+
+      // Free up everything the supplier captured
+      this.supplier = null;
+    }
+
+    return res;
+  }
+
+  /**
+   * Checks whether the underlying component has been resolved already
+   */
+  public boolean isResolved() {
+    return this.resolved != null;
+  }
+
+  /**
+   * Get the memoized pixel width of this component
+   * @param bold Whether bold formatting has been inherited
+   * @return Width in pixels, -1 if not yet measured
+   */
+  int getCachedWidth(boolean bold) {
+    return widthCache[bold ? 1 : 0];
+  }
+
+  /**
+   * Memoize the pixel width of this component
+   * @param bold Whether bold formatting has been inherited
+   * @param width Measured width in pixels
+   */
+  void setCachedWidth(boolean bold, int width) {
+    widthCache[bold ? 1 : 0] = width;
+  }
+
+  ///////////////////////////////// Generation /////////////////////////////////
+
+  /**
+   * Transforms the resolved component into it's JSON representation, where the
+   * result is memoized per approximation mode. The returned object is shared between
+   * calls, which is safe as parents only read the JSON of their children, but it must
+   * never be mutated by the caller.
+   * @param approximateColors Whether to approximate HEX colors as ChatColors
+   */
+  @Override
+  public JsonObject toJson(boolean approximateColors) {
+    int index = approximateColors ? 1 : 0;
+
+    synchronized (jsonCache) {
+      JsonObject res = jsonCache[index];
+
+      if (res == null) {
+        res = resolve().toJson(approximateColors);
+        jsonCache[index] = res;
+      }
+
+      return res;
+    }
+  }
+
+  @Override
+  public String toPlainText() {
+    String res = this.plainTextCache;
+
+    if (res == null) {
+      res = resolve().toPlainText();
+      this.plainTextCache = res;
+    }
+
+    return res;
+  }
+
+  @Override
+  public String toString() {
+    return toJson(false).toString();
+  }
+}
@@ -10,6 +10,7 @@ import org.jetbrains.annotations.Nullable;
 import java.awt.*;
 import java.util.List;
 import java.util.*;
+import java.util.function.Supplier;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -85,7 +86,7 @@ public class TextComponent implements IComponent {
    * @param color Color of the component, optional
    * @param formatting Formatting modes
    */
-  private TextComponent(@Nullable String text, @Nullable String color, boolean[] formatting) {
+  TextComponent(@Nullable String text, @Nullable String color, boolean[] formatting) {
     this(text, color);
 
     // Copy into the local array to avoid mutability
@@ -162,11 +163,24 @@ public class TextComponent implements IComponent {
    * @param action Action to be executed
    * @param value Action value
    */
-  public void setHover(HoverAction action, TextComponent value) {
+  public void setHover(HoverAction action, IComponent value) {
     this.hoverAction = action;
     this.hoverValue = value;
   }
 
+  /**
+   * Set what happens when the message is being hovered within the chat, where
+   * the hover value is only built when this component is serialized
+   * @param action Action to be executed
+   * @param value Supplier of the action value, called at most once
+   * @return Lazy hover component
+   */
+  public LazyComponent setHover(HoverAction action, Supplier<? extends IComponent> value) {
+    LazyComponent comp = new LazyComponent(value);
+    setHover(action, comp);
+    return comp;
+  }
+
   /**
    * Clear the hover event
    */
@@ -0,0 +1,227 @@
+package me.blvckbytes.bblibutil.component;
+
+import me.blvckbytes.bblibdi.AutoConstruct;
+
+import java.util.List;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Measures the rendered pixel width of texts and components based on a precomputed
+  glyph width table of the client's default font, which allows for cheap centering
+  and padding of lines without building intermediate strings.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@AutoConstruct
+public class TextMeasurer {
+
+  // Default width of the chat window in pixels
+  public static final int CHAT_WIDTH = 320;
+
+  // Advance of glyphs which are not contained within the table, including spacing
+  private static final int DEFAULT_ADVANCE = 6;
+
+  // Lookup table of glyph advances (width plus one pixel of spacing) for all ASCII chars
+  private static final byte[] advances;
+
+  static {
+    advances = new byte[128];
+
+    // Most glyphs are five pixels wide, control characters are never rendered
+    for (int i = 32; i < advances.length; i++)
+      advances[i] = DEFAULT_ADVANCE;
+
+    setAdvance(2, '!', '\'', ',', '.', ':', ';', 'i', '|');
+    setAdvance(3, '`', 'l');
+    setAdvance(4, ' ', '"', 'I', '[', ']', 't');
+    setAdvance(5, '(', ')', '*', '<', '>', 'f', 'k', '{', '}');
+    setAdvance(7, '@', '~');
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Get the horizontal advance of a single character
+   * @param c Target character
+   * @param bold Whether the character is rendered in bold
+   * @return Advance in pixels, including the spacing to the next character
+   */
+  public int getAdvance(char c, boolean bold) {
+    int advance = c < advances.length ? advances[c] : DEFAULT_ADVANCE;
+
+    // Bold characters are rendered with an offset of one pixel
+    if (bold && advance > 0)
+      advance++;
+
+    return advance;
+  }
+
+  /**
+   * Measure the width of a text which may contain legacy color and formatting sequences
+   * @param text Text to measure
+   * @return Width in pixels
+   */
+  public int measure(String text) {
+    return measure(text, false);
+  }
+
+  /**
+   * Measure the width of a text which may contain legacy color and formatting sequences
+   * @param text Text to measure
+   * @param bold Whether the text starts out as bold
+   * @return Width in pixels
+   */
+  public int measure(String text, boolean bold) {
+    int width = 0;
+
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+
+      // Regular character, look up it's advance
+      if (c != '§' || i == text.length() - 1) {
+        width += getAdvance(c, bold);
+        continue;
+      }
+
+      // Skip the sequence's marker while updating the bold state
+      bold = applySequence(text.charAt(++i), bold);
+    }
+
+    return width;
+  }
+
+  /**
+   * Measure the width of a component and all of it's siblings
+   * @param component Component to measure
+   * @return Width in pixels
+   */
+  public int measure(IComponent component) {
+    return measure(component, false);
+  }
+
+  /**
+   * Measure the width of a component and all of it's siblings
+   * @param component Component to measure
+   * @param bold Whether the component inherits bold formatting from it's parent
+   * @return Width in pixels
+   */
+  public int measure(IComponent component, boolean bold) {
+    if (component instanceof TextComponent) {
+      TextComponent text = (TextComponent) component;
+
+      bold |= text.getFormatting()[TextFormatting.BOLD.ordinal()];
+      int width = text.getText() == null ? 0 : measure(text.getText(), bold);
+
+      // Siblings inherit the formatting of their parent
+      List<IComponent> siblings = text.getSiblings();
+      for (int i = 0; i < siblings.size(); i++)
+        width += measure(siblings.get(i), bold);
+
+      return width;
+    }
+
+    // Lazy components are immutable once resolved, so their width can be cached
+    if (component instanceof LazyComponent) {
+      LazyComponent lazy = (LazyComponent) component;
+      int width = lazy.getCachedWidth(bold);
+
+      if (width < 0) {
+        width = measure(lazy.resolve(), bold);
+        lazy.setCachedWidth(bold, width);
+      }
+
+      return width;
+    }
+
+    // Unknown component, fall back to it's plain text representation
+    return measure(component.toPlainText(), bold);
+  }
+
+  /**
+   * Compute how many spaces are required to pad a line of the given width so it appears centered
+   * @param width Width of the line in pixels
+   * @param lineWidth Width of the line's container in pixels
+   * @return Number of spaces to prepend
+   */
+  public int computeCenterPadding(int width, int lineWidth) {
+    int remaining = (lineWidth - width) / 2;
+
+    if (remaining <= 0)
+      return 0;
+
+    return remaining / getAdvance(' ', false);
+  }
+
+  /**
+   * Center a text which may contain legacy sequences within a line
+   * @param text Text to center
+   * @param lineWidth Width of the line's container in pixels
+   * @return Text with prepended padding
+   */
+  public String center(String text, int lineWidth) {
+    int padding = computeCenterPadding(measure(text), lineWidth);
+
+    if (padding == 0)
+      return text;
+
+    return " ".repeat(padding) + text;
+  }
+
+  /**
+   * Center a text which may contain legacy sequences within the chat
+   * @param text Text to center
+   * @return Text with prepended padding
+   */
+  public String center(String text) {
+    return center(text, CHAT_WIDTH);
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Set the advance of multiple characters at once
+   * @param advance Advance to set, including spacing
+   * @param chars Characters to set the advance for
+   */
+  private static void setAdvance(int advance, char... chars) {
+    for (char c : chars)
+      advances[c] = (byte) advance;
+  }
+
+  /**
+   * Apply a legacy sequence's effects on the bold state
+   * @param marker Marker of the sequence (char after §)
+   * @param bold Current bold state
+   * @return New bold state
+   */
+  private boolean applySequence(char marker, boolean bold) {
+    char lower = Character.toLowerCase(marker);
+
+    // Enable bold formatting
+    if (lower == TextFormatting.BOLD.getMarker())
+      return true;
+
+    // Colors as well as the reset sequence reset all formatting
+    if ((lower >= '0' && lower <= '9') || (lower >= 'a' && lower <= 'f') || lower == 'r')
+      return false;
+
+    return bold;
+  }
+}
@@ -0,0 +1,348 @@
+package me.blvckbytes.bblibutil.logger;
+
+import me.blvckbytes.bblibutil.APlugin;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Decorates another logger by moving all of it's output off the calling thread.
+  Entries are pushed into a bounded lock-free queue and drained in batches by a
+  background thread, which writes them to the wrapped logger. The queue is flushed
+  completely when the plugin is being disabled.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class AsyncLogger implements ILogger {
+
+  // Default number of entries the queue can hold
+  public static final int DEFAULT_CAPACITY = 8192;
+
+  // Maximum number of entries to write per batch
+  private static final int BATCH_SIZE = 256;
+
+  // Time to idle between checks when the queue is empty
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+  // Time to back off when waiting for room in the queue
+  private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  // Time to wait for the worker to flush all remaining entries on shutdown
+  private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+  private final ILogger delegate;
+  private final ObjectStringifier stringifier;
+  private final OverflowPolicy overflowPolicy;
+  private final BoundedMpmcQueue<LogEntry> queue;
+  private final Thread worker;
+
+  // Number of entries which have been discarded due to an overflow since the last report
+  private final AtomicLong dropped;
+
+  private volatile boolean debugMode;
+  private volatile boolean running;
+  private volatile boolean workerIdle;
+
+  /**
+   * Create a new asynchronous logger with the default capacity and a blocking overflow policy
+   * @param plugin Plugin to bind the logger's lifetime to
+   * @param delegate Logger to write all entries to
+   * @param stringifier Stringifier to turn debugged objects into text on the calling thread
+   */
+  public AsyncLogger(APlugin plugin, ILogger delegate, ObjectStringifier stringifier) {
+    this(plugin, delegate, stringifier, DEFAULT_CAPACITY, OverflowPolicy.BLOCK);
+  }
+
+  /**
+   * Create a new asynchronous logger
+   * @param plugin Plugin to bind the logger's lifetime to
+   * @param delegate Logger to write all entries to
+   * @param stringifier Stringifier to turn debugged objects into text on the calling thread
+   * @param capacity Maximum number of queued entries
+   * @param overflowPolicy How to deal with new entries while the queue is full
+   */
+  public AsyncLogger(APlugin plugin, ILogger delegate, ObjectStringifier stringifier, int capacity, OverflowPolicy overflowPolicy) {
+    this.delegate = delegate;
+    this.stringifier = stringifier;
+    this.overflowPolicy = overflowPolicy;
+    this.queue = new BoundedMpmcQueue<>(capacity);
+    this.dropped = new AtomicLong();
+    this.running = true;
+
+    this.worker = new Thread(this::drainLoop, plugin.getName() + " Async Logger");
+    this.worker.setDaemon(true);
+    this.worker.start();
+
+    plugin.addDisableHook(this::shutdown);
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  @Override
+  public void logInfo(String message) {
+    enqueue(new LogEntry(LogLevel.INFO, message, null));
+  }
+
+  @Override
+  public void logDebug(String message) {
+    if (!debugMode) {
+      DebugFlightRecorder recorder = delegate.getFlightRecorder();
+
+      if (recorder != null)
+        recorder.record(message);
+
+      return;
+    }
+
+    enqueue(new LogEntry(LogLevel.DEBUG, message, null));
+  }
+
+  /**
+   * Log a stringified object on the debug level, where the object is stringified on the
+   * calling thread, as it may only be safely accessed there, and only the text is queued
+   * @param o Object to stringify
+   * @param depth Maximum depth to stringify until
+   */
+  @Override
+  public void logDebug(Object o, int depth) {
+    if (!debugMode) {
+      DebugFlightRecorder recorder = delegate.getFlightRecorder();
+
+      if (recorder != null)
+        recorder.record(o, depth);
+
+      return;
+    }
+
+    enqueue(new LogEntry(LogLevel.DEBUG, stringifier.stringifyObject(o, depth), null));
+  }
+
+  @Override
+  public void logError(Exception e) {
+    enqueue(new LogEntry(LogLevel.ERROR, null, e));
+  }
+
+  @Override
+  public void logError(String message) {
+    enqueue(new LogEntry(LogLevel.ERROR, message, null));
+  }
+
+  @Override
+  public void log(LogLevel level, String message) {
+    enqueue(new LogEntry(level, message, null));
+  }
+
+  /**
+   * Log a structured event, where a detached copy of the
+   * event is written by the background thread
+   * @param event Event to log
+   */
+  @Override
+  public void logEvent(LogEvent event) {
+    enqueue(new LogEntry(event.getLevel(), null, event.copy()));
+  }
+
+  @Override
+  public void setDebugMode(boolean mode) {
+    this.debugMode = mode;
+    this.delegate.setDebugMode(mode);
+  }
+
+  @Override
+  public boolean isDebugEnabled() {
+    return debugMode;
+  }
+
+  @Override
+  public @Nullable DebugFlightRecorder getFlightRecorder() {
+    return delegate.getFlightRecorder();
+  }
+
+  /**
+   * Stop accepting asynchronous entries, write all queued entries and stop the
+   * background thread. Entries logged afterwards are written synchronously.
+   */
+  public void shutdown() {
+    if (!running)
+      return;
+
+    running = false;
+    LockSupport.unpark(worker);
+
+    try {
+      worker.join(SHUTDOWN_TIMEOUT_MS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * A single queued log entry
+   */
+  private static class LogEntry {
+    private final LogLevel level;
+    private final @Nullable String message;
+
+    // Either an exception or a structured event
+    private final @Nullable Object subject;
+
+    private LogEntry(LogLevel level, @Nullable String message, @Nullable Object subject) {
+      this.level = level;
+      this.message = message;
+      this.subject = subject;
+    }
+  }
+
+  /**
+   * Push an entry into the queue while applying the overflow policy if it's full
+   * @param entry Entry to push
+   */
+  private void enqueue(LogEntry entry) {
+    // The worker is gone or it's the worker logging through this instance itself
+    if (!running || Thread.currentThread() == worker) {
+      write(entry);
+      return;
+    }
+
+    if (!queue.offer(entry)) {
+      switch (overflowPolicy) {
+        case DROP_OLDEST:
+          while (!queue.offer(entry)) {
+            if (queue.poll() != null)
+              dropped.incrementAndGet();
+          }
+          break;
+
+        case DROP_DEBUG:
+          if (entry.level == LogLevel.DEBUG) {
+            dropped.incrementAndGet();
+            return;
+          }
+
+          awaitOffer(entry);
+          break;
+
+        default:
+        case BLOCK:
+          awaitOffer(entry);
+          break;
+      }
+    }
+
+    if (workerIdle)
+      LockSupport.unpark(worker);
+
+    // Shut down while pushing, the worker may have missed this entry
+    if (!running)
+      drainRemaining();
+  }
+
+  /**
+   * Synchronously write all entries which are still left within the queue
+   */
+  private void drainRemaining() {
+    LogEntry entry;
+    while ((entry = queue.poll()) != null)
+      write(entry);
+  }
+
+  /**
+   * Wait until there's room for the entry within the queue
+   * @param entry Entry to push
+   */
+  private void awaitOffer(LogEntry entry) {
+    while (!queue.offer(entry)) {
+      // Worker died while waiting, write directly
+      if (!running) {
+        write(entry);
+        return;
+      }
+
+      LockSupport.unpark(worker);
+      LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+    }
+  }
+
+  /**
+   * Main loop of the background thread, which drains the queue in batches
+   */
+  private void drainLoop() {
+    Object[] batch = new Object[BATCH_SIZE];
+
+    while (running || !queue.isEmpty()) {
+      int count = queue.drainTo(batch, batch.length);
+
+      if (count == 0) {
+        reportDropped();
+
+        // Idle until either woken up by a producer or the timeout elapses
+        workerIdle = true;
+        if (running && queue.isEmpty())
+          LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        workerIdle = false;
+        continue;
+      }
+
+      for (int i = 0; i < count; i++) {
+        write((LogEntry) batch[i]);
+        batch[i] = null;
+      }
+    }
+
+    reportDropped();
+  }
+
+  /**
+   * Report the number of dropped entries, if there were any
+   */
+  private void reportDropped() {
+    long count = dropped.getAndSet(0);
+
+    if (count > 0)
+      delegate.logError("Dropped " + count + " log entries due to a full queue");
+  }
+
+  /**
+   * Write an entry to the wrapped logger
+   * @param entry Entry to write
+   */
+  private void write(LogEntry entry) {
+    try {
+      if (entry.level == LogLevel.ERROR && entry.subject instanceof Exception) {
+        delegate.logError((Exception) entry.subject);
+        return;
+      }
+
+      if (entry.subject instanceof LogEvent) {
+        delegate.logEvent((LogEvent) entry.subject);
+        return;
+      }
+
+      delegate.log(entry.level, entry.message);
+    } catch (Exception e) {
+      e.printStackTrace();
+    }
+  }
+}
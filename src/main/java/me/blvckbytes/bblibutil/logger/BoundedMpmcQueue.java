@@ -0,0 +1,150 @@
+package me.blvckbytes.bblibutil.logger;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  A bounded, lock-free multi-producer multi-consumer queue which is backed by
+  a ring buffer. Each cell carries a sequence number which tells producers and
+  consumers whether it's ready to be written to or read from, so both sides
+  only ever have to race on a single counter.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+class BoundedMpmcQueue<T> {
+
+  private final int mask;
+  private final AtomicReferenceArray<T> items;
+  private final AtomicLongArray sequences;
+
+  // Position of the next read and the next write
+  private final AtomicLong head, tail;
+
+  /**
+   * Create a new queue which can hold at least the requested number of items
+   * @param capacity Capacity, rounded up to the next power of two
+   */
+  BoundedMpmcQueue(int capacity) {
+    int size = 2;
+    while (size < capacity)
+      size <<= 1;
+
+    this.mask = size - 1;
+    this.items = new AtomicReferenceArray<>(size);
+    this.sequences = new AtomicLongArray(size);
+    this.head = new AtomicLong();
+    this.tail = new AtomicLong();
+
+    // Each cell is initially ready to be written at it's own position
+    for (int i = 0; i < size; i++)
+      sequences.set(i, i);
+  }
+
+  /**
+   * Try to append an item to the end of the queue
+   * @param item Item to append
+   * @return True if appended, false if the queue is full
+   */
+  boolean offer(T item) {
+    while (true) {
+      long pos = tail.get();
+      int index = (int) (pos & mask);
+      long diff = sequences.get(index) - pos;
+
+      // Cell is still occupied by an unread item
+      if (diff < 0)
+        return false;
+
+      // Cell is ready, try to claim it
+      if (diff == 0 && tail.compareAndSet(pos, pos + 1)) {
+        items.lazySet(index, item);
+
+        // Publish the item to consumers
+        sequences.lazySet(index, pos + 1);
+        return true;
+      }
+
+      // Another producer claimed this position, retry
+    }
+  }
+
+  /**
+   * Try to take the item at the head of the queue
+   * @return Head item or null if the queue is empty
+   */
+  @Nullable T poll() {
+    while (true) {
+      long pos = head.get();
+      int index = (int) (pos & mask);
+      long diff = sequences.get(index) - (pos + 1);
+
+      // Cell has not been published yet
+      if (diff < 0)
+        return null;
+
+      // Cell is ready, try to claim it
+      if (diff == 0 && head.compareAndSet(pos, pos + 1)) {
+        T item = items.get(index);
+        items.lazySet(index, null);
+
+        // Hand the cell back to producers for the next lap
+        sequences.lazySet(index, pos + mask + 1);
+        return item;
+      }
+
+      // Another consumer claimed this position, retry
+    }
+  }
+
+  /**
+   * Take up to the requested number of items from the queue
+   * @param buffer Buffer to write the items into
+   * @param max Maximum number of items to take
+   * @return Number of taken items
+   */
+  int drainTo(Object[] buffer, int max) {
+    int count = 0;
+
+    while (count < max) {
+      T item = poll();
+
+      if (item == null)
+        break;
+
+      buffer[count++] = item;
+    }
+
+    return count;
+  }
+
+  /**
+   * Checks whether the queue is (momentarily) empty
+   */
+  boolean isEmpty() {
+    return head.get() >= tail.get();
+  }
+
+  /**
+   * Get the maximum number of items this queue can hold
+   */
+  int capacity() {
+    return mask + 1;
+  }
+}
@@ -0,0 +1,268 @@
+package me.blvckbytes.bblibutil.logger;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  A named logger of a single category (mostly a class or a subsystem) which writes
+  through it's parent logger while having it's own level, which can be adjusted at
+  runtime. High frequency debug categories can additionally be sampled, to only let
+  through a fraction of their messages.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class CategoryLogger implements ILogger {
+
+  // Marks that the level is inherited from the parent logger
+  private static final int INHERIT = -1;
+
+  // Layout of the state, where the lower bits hold the level's ordinal plus one (zero to inherit)
+  // and the upper bits hold the sampling rate, so that both are read at once
+  private static final int LEVEL_BITS = 8, LEVEL_MASK = (1 << LEVEL_BITS) - 1;
+  private static final int MAX_SAMPLING = Integer.MAX_VALUE >>> LEVEL_BITS;
+
+  private final String name;
+  private final String prefix;
+  private final ILogger parent;
+  private final @Nullable ObjectStringifier stringifier;
+
+  // Minimum level to log as well as the sampling rate of debug messages, where only one
+  // in this many debug messages is logged and one disables sampling, see LEVEL_BITS
+  private volatile int state;
+
+  CategoryLogger(String name, ILogger parent, @Nullable ObjectStringifier stringifier) {
+    this.name = name;
+    this.prefix = "[" + name + "] ";
+    this.parent = parent;
+    this.stringifier = stringifier;
+    this.state = pack(INHERIT, 1);
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  @Override
+  public void logInfo(String message) {
+    if (isEnabled(LogLevel.INFO))
+      parent.log(LogLevel.INFO, prefix + message);
+  }
+
+  @Override
+  public void logDebug(String message) {
+    if (passesDebug()) {
+      parent.log(LogLevel.DEBUG, prefix + message);
+      return;
+    }
+
+    DebugFlightRecorder recorder = getFlightRecorder();
+
+    if (recorder != null)
+      recorder.record(prefix + message);
+  }
+
+  /**
+   * Log a lazily built message on the debug level, where the supplier
+   * is only invoked if the message passes both the level and the sampling
+   * @param message Supplier of the message to log
+   */
+  @Override
+  public void logDebug(Supplier<String> message) {
+    if (passesDebug()) {
+      parent.log(LogLevel.DEBUG, prefix + message.get());
+      return;
+    }
+
+    DebugFlightRecorder recorder = getFlightRecorder();
+
+    if (recorder != null)
+      recorder.record(() -> prefix + message.get());
+  }
+
+  /**
+   * Log a parameterized message on the debug level, where the pattern
+   * is only formatted if the message passes both the level and the sampling
+   * @param pattern Pattern containing {} placeholders
+   * @param args Arguments to substitute in order
+   */
+  @Override
+  public void logDebugf(String pattern, Object... args) {
+    if (passesDebug()) {
+      parent.log(LogLevel.DEBUG, prefix + LogMessageFormatter.format(pattern, args));
+      return;
+    }
+
+    DebugFlightRecorder recorder = getFlightRecorder();
+
+    if (recorder != null)
+      recorder.recordf(prefix + pattern, args);
+  }
+
+  @Override
+  public void logDebug(Object o, int depth) {
+    if (stringifier != null && passesDebug()) {
+      parent.log(LogLevel.DEBUG, prefix + stringifier.stringifyObject(o, depth));
+      return;
+    }
+
+    DebugFlightRecorder recorder = getFlightRecorder();
+
+    if (recorder != null)
+      recorder.record(o, depth);
+  }
+
+  @Override
+  public void logError(Exception e) {
+    // Exceptions are passed on as-is to keep the parent's error handling
+    parent.logError(e);
+  }
+
+  @Override
+  public void logError(String message) {
+    if (isEnabled(LogLevel.ERROR))
+      parent.log(LogLevel.ERROR, prefix + message);
+  }
+
+  @Override
+  public void log(LogLevel level, String message) {
+    parent.log(level, prefix + message);
+  }
+
+  @Override
+  public LogEvent event(LogLevel level, String message) {
+    int state = this.state;
+    boolean enabled = isEnabled(state, level) && (level != LogLevel.DEBUG || sample(state));
+    return LogEvent.acquire(this, level, enabled ? prefix + message : message, enabled);
+  }
+
+  @Override
+  public void logEvent(LogEvent event) {
+    parent.logEvent(event);
+  }
+
+  /**
+   * Enables debug logging for this category only, or resets it to the information level
+   * @param mode Mode to set
+   */
+  @Override
+  public void setDebugMode(boolean mode) {
+    setLevel(mode ? LogLevel.DEBUG : LogLevel.INFO);
+  }
+
+  @Override
+  public boolean isDebugEnabled() {
+    return isEnabled(LogLevel.DEBUG);
+  }
+
+  @Override
+  public @Nullable DebugFlightRecorder getFlightRecorder() {
+    return parent.getFlightRecorder();
+  }
+
+  /**
+   * Checks whether messages of a given level are currently being logged
+   * @param level Level to check
+   */
+  public boolean isEnabled(LogLevel level) {
+    return isEnabled(state, level);
+  }
+
+  /**
+   * Set the minimum level of this category
+   * @param level Minimum level to log, null to inherit the parent's level
+   */
+  public synchronized void setLevel(@Nullable LogLevel level) {
+    this.state = pack(level == null ? INHERIT : level.ordinal(), samplingOf(state));
+  }
+
+  /**
+   * Get the minimum level of this category, null if it's inherited from the parent
+   */
+  public @Nullable LogLevel getLevel() {
+    int min = minLevelOf(state);
+    return min == INHERIT ? null : LogLevel.values()[min];
+  }
+
+  /**
+   * Set the sampling rate of debug messages, where only one in
+   * every n messages is logged on average
+   * @param every Sampling rate, one or less disables sampling
+   */
+  public synchronized void setSampling(int every) {
+    this.state = pack(minLevelOf(state), Math.max(1, Math.min(every, MAX_SAMPLING)));
+  }
+
+  /**
+   * Get the sampling rate of debug messages, one if sampling is disabled
+   */
+  public int getSampling() {
+    return samplingOf(state);
+  }
+
+  /**
+   * Get the name of this category
+   */
+  public String getName() {
+    return name;
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Decide whether a debug message is to be logged, based on a single read of the state
+   */
+  private boolean passesDebug() {
+    int state = this.state;
+    return sample(state) && isEnabled(state, LogLevel.DEBUG);
+  }
+
+  /**
+   * Checks whether messages of a given level are being logged according to a state
+   */
+  private boolean isEnabled(int state, LogLevel level) {
+    int min = minLevelOf(state);
+
+    if (min == INHERIT)
+      return level != LogLevel.DEBUG || parent.isDebugEnabled();
+
+    return level.ordinal() >= min;
+  }
+
+  /**
+   * Decide whether a debug message passes the sampling of a state
+   */
+  private boolean sample(int state) {
+    int every = samplingOf(state);
+    return every <= 1 || ThreadLocalRandom.current().nextInt(every) == 0;
+  }
+
+  private static int pack(int minLevel, int sampleEvery) {
+    return (sampleEvery << LEVEL_BITS) | (minLevel + 1);
+  }
+
+  private static int minLevelOf(int state) {
+    return (state & LEVEL_MASK) - 1;
+  }
+
+  private static int samplingOf(int state) {
+    return state >>> LEVEL_BITS;
+  }
+}
@@ -5,11 +5,17 @@ import lombok.Setter;
 import me.blvckbytes.bblibdi.AutoConstruct;
 import me.blvckbytes.bblibdi.AutoInject;
 import me.blvckbytes.bblibdi.AutoInjectLate;
+import me.blvckbytes.bblibutil.APlugin;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.List;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -35,11 +41,21 @@ import java.io.StringWriter;
 public class ConsoleSenderLogger implements ILogger {
 
   @Setter
-  private boolean debugMode;
+  private volatile boolean debugMode;
 
   @Getter
   private final ILogColorSupplier colorSupplier;
   private final String prefix;
+  private final JavaPlugin plugin;
+
+  // Suppresses repeated identical exceptions and summarizes them periodically
+  @Getter
+  private final ExceptionAggregator exceptionAggregator;
+  private @Nullable BukkitTask summaryTask;
+
+  // Captures recent debug messages while debug mode is off
+  @Getter
+  private final DebugFlightRecorder flightRecorder;
 
   @AutoInjectLate
   private ObjectStringifier stringifier;
@@ -49,6 +65,13 @@ public class ConsoleSenderLogger implements ILogger {
     @AutoInject JavaPlugin plugin
   ) {
     this.colorSupplier = colorSupplier;
+    this.plugin = plugin;
+    this.exceptionAggregator = new ExceptionAggregator();
+    this.flightRecorder = new DebugFlightRecorder();
+
+    // Report everything that's still pending when shutting down
+    if (plugin instanceof APlugin)
+      ((APlugin) plugin).addDisableHook(() -> flushExceptionSummaries(true));
     this.prefix = colorSupplier.getLogColor(LogColor.PREFIX) + plugin.getName() + " §8| §7";
   }
 
@@ -63,14 +86,22 @@ public class ConsoleSenderLogger implements ILogger {
 
   @Override
   public void logDebug(String message) {
-    if (!debugMode)
+    if (!debugMode) {
+      flightRecorder.record(message);
       return;
+    }
 
     log(colorSupplier.getLogColor(LogColor.DEBUG) + message);
   }
 
   @Override
   public void logDebug(Object o, int depth) {
+    // Don't stringify if the result would be discarded anyways
+    if (!debugMode) {
+      flightRecorder.record(o, depth);
+      return;
+    }
+
     // Stringifier unavailable (yet)
     if (stringifier == null)
       return;
@@ -78,8 +109,22 @@ public class ConsoleSenderLogger implements ILogger {
     logDebug(stringifier.stringifyObject(o, depth));
   }
 
+  @Override
+  public boolean isDebugEnabled() {
+    return debugMode;
+  }
+
   @Override
   public void logError(Exception e) {
+    // Report all due summaries before deciding on the new exception
+    flushExceptionSummaries(false);
+
+    // Identical exception within the current window, only count it
+    if (!exceptionAggregator.register(e)) {
+      scheduleSummaries();
+      return;
+    }
+
     try {
       StringWriter sw = new StringWriter();
       PrintWriter pw = new PrintWriter(sw);
@@ -92,10 +137,90 @@ public class ConsoleSenderLogger implements ILogger {
     } catch (Exception ex) {
       ex.printStackTrace();
     }
+
+    dumpRecentDebugMessages();
   }
 
   @Override
   public void logError(String message) {
     log(colorSupplier.getLogColor(LogColor.ERROR) + message);
   }
+
+  @Override
+  public void log(LogLevel level, String message) {
+    log(colorSupplier.getLogColor(level.getColor()) + message);
+  }
+
+  @Override
+  public void logEvent(LogEvent event) {
+    String levelColor = colorSupplier.getLogColor(event.getLevel().getColor());
+    String keyColor = colorSupplier.getLogColor(LogColor.OSTR_OTHER);
+    String valueColor = colorSupplier.getLogColor(LogColor.OSTR_VALUE);
+
+    log(levelColor + LogEventEncoder.renderText(event, keyColor, valueColor));
+  }
+
+  /**
+   * Log summaries of all suppressed repeated exceptions
+   * @param force Whether to also summarize windows which haven't elapsed yet
+   */
+  public void flushExceptionSummaries(boolean force) {
+    for (String summary : exceptionAggregator.collectSummaries(force))
+      logError(summary);
+  }
+
+  /**
+   * Write all debug messages which are kept by the flight recorder into a file
+   * @param file File to write to
+   */
+  public void dumpFlightRecorder(Path file) throws IOException {
+    flightRecorder.dumpTo(file);
+  }
+
+  /**
+   * Log the debug messages which have been recorded since the last dump as context of an
+   * error, which only applies while debug mode is off, as they've been logged otherwise
+   */
+  private void dumpRecentDebugMessages() {
+    if (debugMode)
+      return;
+
+    List<String> lines = flightRecorder.drain();
+
+    if (lines.isEmpty())
+      return;
+
+    String color = colorSupplier.getLogColor(LogColor.DEBUG);
+
+    log(color + "Recent debug messages (" + lines.size() + "):");
+    for (String line : lines)
+      log(color + line);
+  }
+
+  /**
+   * Make sure that summaries of suppressed exceptions are logged periodically,
+   * even if the exception stops occurring, while anything is being tracked
+   */
+  private synchronized void scheduleSummaries() {
+    if (summaryTask != null)
+      return;
+
+    long periodTicks = Math.max(1, exceptionAggregator.getWindowMs() / 50);
+
+    try {
+      summaryTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
+        flushExceptionSummaries(false);
+
+        // Stop once nothing is tracked anymore
+        synchronized (this) {
+          if (!exceptionAggregator.isTracking() && summaryTask != null) {
+            summaryTask.cancel();
+            summaryTask = null;
+          }
+        }
+      }, periodTicks, periodTicks);
+    } catch (Exception ignored) {
+      // The plugin is not enabled, summaries will be logged on the next error
+    }
+  }
 }
@@ -0,0 +1,298 @@
+package me.blvckbytes.bblibutil.logger;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Keeps the most recent debug messages within a fixed size ring buffer, even while
+  debug logging is disabled, in order to provide context when a rare error occurs.
+  Suppliers, patterns with their arguments and objects are kept as they are and only
+  formatted when being dumped, so recording stays cheap on hot paths. Thus, objects
+  reflect their state at the time of dumping and are kept alive until overwritten.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class DebugFlightRecorder {
+
+  // Default number of messages to keep
+  public static final int DEFAULT_CAPACITY = 256;
+
+  private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter
+    .ofPattern("HH:mm:ss.SSS")
+    .withZone(ZoneId.systemDefault());
+
+  // Maximum length of a formatted message, longer messages are truncated
+  private static final int MAX_MESSAGE_LENGTH = 2048;
+
+  // Objects are stringified colorless and within tight budgets, as a dump may contain many
+  private static final StringifyOptions OBJECT_OPTIONS = new StringifyOptions(false, MAX_MESSAGE_LENGTH, 256, 16);
+
+  // Kinds of recorded messages, which decide on how they're formatted
+  private static final byte KIND_TEXT = 0, KIND_SUPPLIER = 1, KIND_PATTERN = 2, KIND_OBJECT = 3;
+
+  private final AtomicReferenceArray<Entry> slots;
+  private final int mask;
+
+  // Sequence number of the next entry to be recorded
+  private final AtomicLong sequence;
+
+  // Sequence number up to which entries have already been dumped
+  private final AtomicLong dumpedUntil;
+
+  private volatile boolean enabled;
+  private volatile @Nullable ObjectStringifier stringifier;
+
+  /**
+   * Create a new recorder using the default capacity
+   */
+  public DebugFlightRecorder() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create a new recorder
+   * @param capacity Number of messages to keep, rounded up to the next power of two
+   */
+  public DebugFlightRecorder(int capacity) {
+    int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+
+    this.slots = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+    this.sequence = new AtomicLong();
+    this.dumpedUntil = new AtomicLong();
+    this.enabled = true;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Record a plain message
+   * @param message Message to record
+   */
+  public void record(String message) {
+    if (enabled)
+      push(KIND_TEXT, message, null, 0);
+  }
+
+  /**
+   * Record a lazily built message, where the supplier is only invoked when dumping
+   * @param message Supplier of the message
+   */
+  public void record(Supplier<String> message) {
+    if (enabled)
+      push(KIND_SUPPLIER, message, null, 0);
+  }
+
+  /**
+   * Record a parameterized message, which is only formatted when dumping
+   * @param pattern Pattern containing {} placeholders
+   * @param args Arguments to substitute in order
+   */
+  public void recordf(String pattern, Object... args) {
+    if (enabled)
+      push(KIND_PATTERN, pattern, args, 0);
+  }
+
+  /**
+   * Record an object, which is only stringified when dumping
+   * @param o Object to record
+   * @param depth Maximum depth to stringify until
+   */
+  public void record(@Nullable Object o, int depth) {
+    if (enabled)
+      push(KIND_OBJECT, o, null, depth);
+  }
+
+  /**
+   * Get all recorded messages which haven't been dumped yet, oldest first,
+   * and mark them as dumped
+   * @return Formatted lines
+   */
+  public List<String> drain() {
+    long end = sequence.get();
+    long start = Math.max(dumpedUntil.getAndSet(end), end - slots.length());
+    return format(start, end);
+  }
+
+  /**
+   * Get all messages which are still kept, oldest first, without marking them as dumped
+   * @return Formatted lines
+   */
+  public List<String> snapshot() {
+    long end = sequence.get();
+    return format(Math.max(0, end - slots.length()), end);
+  }
+
+  /**
+   * Write all messages which are still kept into a file, replacing it's previous contents
+   * @param file File to write to
+   */
+  public void dumpTo(Path file) throws IOException {
+    List<String> lines = snapshot();
+
+    // Color sequences would only clutter the file
+    lines.replaceAll(line -> line.replaceAll("§#[0-9a-fA-F]{6}|§.", ""));
+
+    Path parent = file.toAbsolutePath().getParent();
+    if (parent != null)
+      Files.createDirectories(parent);
+
+    Files.write(file, lines, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Set the stringifier to format recorded objects with
+   * @param stringifier Stringifier to use, null to fall back to Object#toString
+   */
+  public void setStringifier(@Nullable ObjectStringifier stringifier) {
+    this.stringifier = stringifier;
+  }
+
+  /**
+   * Set whether messages are being recorded
+   * @param enabled True to record, false to ignore all messages
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Get the number of messages which can be kept at most
+   */
+  public int getCapacity() {
+    return slots.length();
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * A single recorded message
+   */
+  private static class Entry {
+    private final long sequence, timestamp;
+    private final String thread;
+
+    // Message in it's unformatted form, interpreted according to it's kind
+    private final byte kind;
+    private final @Nullable Object payload;
+    private final @Nullable Object[] args;
+    private final int depth;
+
+    private Entry(long sequence, byte kind, @Nullable Object payload, @Nullable Object[] args, int depth) {
+      this.sequence = sequence;
+      this.timestamp = System.currentTimeMillis();
+      this.thread = Thread.currentThread().getName();
+      this.kind = kind;
+      this.payload = payload;
+      this.args = args;
+      this.depth = depth;
+    }
+  }
+
+  /**
+   * Claim the next slot and store a new entry into it, overwriting the oldest entry
+   */
+  private void push(byte kind, @Nullable Object payload, @Nullable Object[] args, int depth) {
+    long seq = sequence.getAndIncrement();
+    slots.lazySet((int) (seq & mask), new Entry(seq, kind, payload, args, depth));
+  }
+
+  /**
+   * Format the message of an entry, which never throws and is truncated if too long
+   * @param entry Entry to format
+   * @return Formatted message
+   */
+  @SuppressWarnings("unchecked")
+  private String formatMessage(Entry entry) {
+    String message;
+
+    try {
+      switch (entry.kind) {
+        case KIND_SUPPLIER:
+          message = ((Supplier<String>) entry.payload).get();
+          break;
+
+        case KIND_PATTERN:
+          message = LogMessageFormatter.format((String) entry.payload, entry.args);
+          break;
+
+        case KIND_OBJECT:
+          ObjectStringifier stringifier = this.stringifier;
+          message = stringifier == null ? String.valueOf(entry.payload) : stringifier.stringifyObject(entry.payload, entry.depth, OBJECT_OPTIONS);
+          break;
+
+        default:
+          message = (String) entry.payload;
+      }
+    } catch (Exception e) {
+      return "<failed to format: " + e + ">";
+    }
+
+    if (message == null)
+      return "null";
+
+    if (message.length() > MAX_MESSAGE_LENGTH)
+      return message.substring(0, MAX_MESSAGE_LENGTH) + "...";
+
+    return message;
+  }
+
+  /**
+   * Format all entries within a range of sequence numbers, skipping
+   * entries which have already been overwritten or are not yet written
+   * @param start First sequence number, inclusive
+   * @param end Last sequence number, exclusive
+   * @return Formatted lines
+   */
+  private List<String> format(long start, long end) {
+    List<String> res = new ArrayList<>();
+
+    for (long seq = start; seq < end; seq++) {
+      Entry entry = slots.get((int) (seq & mask));
+
+      if (entry == null || entry.sequence != seq)
+        continue;
+
+      res.add(
+        "[" + TIMESTAMP_FORMAT.format(Instant.ofEpochMilli(entry.timestamp)) + "] " +
+        "[" + entry.thread + "] " + formatMessage(entry)
+      );
+    }
+
+    return res;
+  }
+}
@@ -0,0 +1,221 @@
+package me.blvckbytes.bblibutil.logger;
+
+import java.util.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Aggregates repeated occurrences of identical exceptions within a time window. Exceptions
+  are fingerprinted by their types and stack traces (including causes), where only the first
+  occurrence per window should be printed in full and all repeats are counted and summarized
+  once the window elapsed.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ExceptionAggregator {
+
+  // Default duration of an aggregation window
+  public static final long DEFAULT_WINDOW_MS = 60 * 1000;
+
+  // Maximum number of causes to include into a fingerprint
+  private static final int MAX_CAUSE_DEPTH = 8;
+
+  private final long windowMs;
+  private final Map<Fingerprint, Occurrence> occurrences;
+
+  /**
+   * Create a new aggregator using the default window duration
+   */
+  public ExceptionAggregator() {
+    this(DEFAULT_WINDOW_MS);
+  }
+
+  /**
+   * Create a new aggregator
+   * @param windowMs Duration of an aggregation window in milliseconds
+   */
+  public ExceptionAggregator(long windowMs) {
+    this.windowMs = windowMs;
+    this.occurrences = new HashMap<>();
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Register an occurrence of an exception
+   * @param t Exception which occurred
+   * @return True if this is the first occurrence within it's window and should be
+   *         printed in full, false if it has been counted as a repeat
+   */
+  public synchronized boolean register(Throwable t) {
+    Fingerprint fingerprint = new Fingerprint(t);
+    long now = System.currentTimeMillis();
+
+    Occurrence occurrence = occurrences.get(fingerprint);
+
+    // Within the window of a previous occurrence, count as a repeat
+    if (occurrence != null && now - occurrence.windowStart < windowMs) {
+      if (occurrence.repeats + occurrence.reportedRepeats == 0)
+        occurrence.firstRepeatAt = now;
+
+      occurrence.repeats++;
+      return false;
+    }
+
+    // The previous window elapsed and will be summarized by the next collection,
+    // so the key is only replaced if there's nothing left to report
+    if (occurrence != null && occurrence.repeats > 0) {
+      occurrence.windowStart = now;
+      occurrence.reportedRepeats += occurrence.repeats;
+      occurrence.repeats = 0;
+      return true;
+    }
+
+    occurrences.put(fingerprint, new Occurrence(describe(t), now));
+    return true;
+  }
+
+  /**
+   * Collect summaries of all exceptions which have been repeated, each spanning the time
+   * since the first repeat which hasn't been reported yet, as repeats of elapsed windows
+   * may be carried over. Entries without any further occurrences are released after their window
+   * @param force Whether to also summarize windows which haven't elapsed yet
+   * @return List of summary lines
+   */
+  public synchronized List<String> collectSummaries(boolean force) {
+    List<String> res = new ArrayList<>();
+    long now = System.currentTimeMillis();
+
+    Iterator<Occurrence> it = occurrences.values().iterator();
+    while (it.hasNext()) {
+      Occurrence occurrence = it.next();
+      boolean elapsed = now - occurrence.windowStart >= windowMs;
+      long repeats = occurrence.repeats + occurrence.reportedRepeats;
+
+      if ((elapsed || force) && repeats > 0) {
+        long spanSeconds = Math.max(1, (now - occurrence.firstRepeatAt + 999) / 1000);
+        res.add(occurrence.description + " (x" + repeats + " in last " + spanSeconds + "s)");
+        occurrence.reportedRepeats = 0;
+        occurrence.repeats = 0;
+      }
+
+      // Nothing happened within the last window, stop tracking
+      if (elapsed && repeats == 0)
+        it.remove();
+    }
+
+    return res;
+  }
+
+  /**
+   * Checks whether there are any exceptions still being tracked
+   */
+  public synchronized boolean isTracking() {
+    return !occurrences.isEmpty();
+  }
+
+  /**
+   * Get the duration of an aggregation window in milliseconds
+   */
+  public long getWindowMs() {
+    return windowMs;
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Occurrence state of a fingerprinted exception
+   */
+  private static class Occurrence {
+    private final String description;
+    private long windowStart;
+
+    // Repeats within the current window as well as
+    // repeats of elapsed windows which are still to be reported
+    private long repeats, reportedRepeats;
+
+    // Time of the first repeat which hasn't been reported yet
+    private long firstRepeatAt;
+
+    private Occurrence(String description, long windowStart) {
+      this.description = description;
+      this.windowStart = windowStart;
+    }
+  }
+
+  /**
+   * Identifies an exception by the types and stack frames of itself and it's causes,
+   * where messages are intentionally left out, as they often contain varying values
+   */
+  private static class Fingerprint {
+    private final Object[] parts;
+    private final int hash;
+
+    private Fingerprint(Throwable t) {
+      List<Object> parts = new ArrayList<>();
+
+      Throwable curr = t;
+      for (int i = 0; curr != null && i < MAX_CAUSE_DEPTH; i++) {
+        parts.add(curr.getClass());
+        parts.addAll(Arrays.asList(curr.getStackTrace()));
+
+        // Self-referencing cause
+        if (curr.getCause() == curr)
+          break;
+
+        curr = curr.getCause();
+      }
+
+      this.parts = parts.toArray();
+      this.hash = Arrays.hashCode(this.parts);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o)
+        return true;
+
+      if (!(o instanceof Fingerprint))
+        return false;
+
+      Fingerprint other = (Fingerprint) o;
+      return hash == other.hash && Arrays.equals(parts, other.parts);
+    }
+  }
+
+  /**
+   * Describe an exception by it's type, message and origin in a single line
+   * @param t Exception to describe
+   * @return Single line description
+   */
+  private String describe(Throwable t) {
+    StringBuilder sb = new StringBuilder(t.toString());
+
+    StackTraceElement[] trace = t.getStackTrace();
+    if (trace.length > 0)
+      sb.append(" at ").append(trace[0]);
+
+    return sb.toString();
+  }
+}
@@ -0,0 +1,476 @@
+package me.blvckbytes.bblibutil.logger;
+
+import me.blvckbytes.bblibutil.APlugin;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Appends all log entries to a dedicated log file of the plugin through a file channel
+  which is fed by a large direct buffer. Color sequences are stripped before writing.
+  The file is rolled over as soon as it reaches a maximum size or age, where rolled
+  files are compressed in the background.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class FileLogger implements ILogger {
+
+  // Default maximum size of a log file before it's rolled over
+  public static final long DEFAULT_MAX_BYTES = 16 * 1024 * 1024;
+
+  // Default maximum age of a log file before it's rolled over
+  public static final long DEFAULT_MAX_AGE_MS = TimeUnit.DAYS.toMillis(1);
+
+  // Name of the file which is currently being written to
+  private static final String LATEST_NAME = "latest.log";
+
+  // Keeps the creation time of the latest file, as file systems don't reliably provide it
+  private static final String CREATED_NAME = ".latest.created";
+
+  // Size of the direct write buffer
+  private static final int BUFFER_SIZE = 256 * 1024;
+
+  // Interval in which buffered entries are written out
+  private static final long FLUSH_INTERVAL_MS = 1000;
+
+  private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter
+    .ofPattern("yyyy-MM-dd HH:mm:ss.SSS")
+    .withZone(ZoneId.systemDefault());
+
+  // Time to wait before trying to roll over again after a failed attempt
+  private static final long ROLL_RETRY_MS = 60 * 1000;
+
+  private static final DateTimeFormatter ROLL_FORMAT = DateTimeFormatter
+    .ofPattern("yyyy-MM-dd_HH-mm-ss")
+    .withZone(ZoneId.systemDefault());
+
+  // Lookup table of characters which make up a sequence when following a §
+  private static final boolean[] sequenceMarkers;
+
+  static {
+    sequenceMarkers = new boolean[128];
+
+    for (char c : "0123456789abcdefklmnorxABCDEFKLMNORX".toCharArray())
+      sequenceMarkers[c] = true;
+  }
+
+  private final Path directory;
+  private final Path latest, created;
+  private final long maxBytes, maxAgeMs;
+  private final @Nullable ObjectStringifier stringifier;
+
+  private final ByteBuffer buffer;
+  private final CharsetEncoder encoder;
+  private final StringBuilder lineBuilder;
+  private final ScheduledExecutorService background;
+
+  private @Nullable FileChannel channel;
+  private long fileSize, fileOpenedAt;
+
+  // Earliest time of the next roll over, which is postponed after failures
+  private long rollRetryAt;
+
+  private volatile boolean debugMode;
+
+  // Whether to write entries as JSON objects, one per line
+  private volatile boolean jsonLines;
+
+  /**
+   * Create a new file logger which writes into the plugin's logs folder using default limits
+   * @param plugin Plugin to bind the logger's lifetime to
+   */
+  public FileLogger(APlugin plugin) throws IOException {
+    this(plugin, plugin.getDataFolder().toPath().resolve("logs"), DEFAULT_MAX_BYTES, DEFAULT_MAX_AGE_MS, null);
+  }
+
+  /**
+   * Create a new file logger
+   * @param plugin Plugin to bind the logger's lifetime to
+   * @param directory Directory to keep the log files in
+   * @param maxBytes Maximum size of a log file before it's rolled over
+   * @param maxAgeMs Maximum age of a log file before it's rolled over
+   * @param stringifier Stringifier used for object debug logging, optional
+   */
+  public FileLogger(
+    APlugin plugin,
+    Path directory,
+    long maxBytes,
+    long maxAgeMs,
+    @Nullable ObjectStringifier stringifier
+  ) throws IOException {
+    this.directory = directory;
+    this.latest = directory.resolve(LATEST_NAME);
+    this.created = directory.resolve(CREATED_NAME);
+    this.maxBytes = maxBytes;
+    this.maxAgeMs = maxAgeMs;
+    this.stringifier = stringifier;
+
+    this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    // Lone surrogates, like half of an emoji, may not cut off the remainder of a line
+    this.encoder = StandardCharsets.UTF_8.newEncoder()
+      .onMalformedInput(CodingErrorAction.REPLACE)
+      .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    this.lineBuilder = new StringBuilder(256);
+
+    this.background = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, plugin.getName() + " File Logger");
+      t.setDaemon(true);
+      return t;
+    });
+
+    Files.createDirectories(directory);
+    openChannel();
+
+    this.background.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    plugin.addDisableHook(this::close);
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  @Override
+  public void logInfo(String message) {
+    log(LogLevel.INFO, message);
+  }
+
+  @Override
+  public void logDebug(String message) {
+    if (!debugMode)
+      return;
+
+    log(LogLevel.DEBUG, message);
+  }
+
+  @Override
+  public void logDebug(Object o, int depth) {
+    if (!debugMode || stringifier == null)
+      return;
+
+    log(LogLevel.DEBUG, stringifier.stringifyObject(o, depth));
+  }
+
+  @Override
+  public void logError(Exception e) {
+    StringWriter sw = new StringWriter();
+    PrintWriter pw = new PrintWriter(sw);
+
+    e.printStackTrace(pw);
+    pw.close();
+
+    log(LogLevel.ERROR, sw.toString());
+  }
+
+  @Override
+  public void logError(String message) {
+    log(LogLevel.ERROR, message);
+  }
+
+  @Override
+  public synchronized void log(LogLevel level, String message) {
+    if (channel == null)
+      return;
+
+    if (jsonLines) {
+      writeLine(level, LogEventEncoder.encodeJson(System.currentTimeMillis(), level, message, null));
+      return;
+    }
+
+    lineBuilder.setLength(0);
+    lineBuilder
+      .append('[').append(TIMESTAMP_FORMAT.format(Instant.now())).append("] [")
+      .append(level.name()).append("] ");
+
+    appendStripped(lineBuilder, message);
+    lineBuilder.append('\n');
+
+    writeLine(level, lineBuilder);
+  }
+
+  @Override
+  public synchronized void logEvent(LogEvent event) {
+    if (channel == null)
+      return;
+
+    if (jsonLines) {
+      writeLine(event.getLevel(), LogEventEncoder.encodeJson(event, null));
+      return;
+    }
+
+    log(event.getLevel(), LogEventEncoder.renderText(event, "", "").toString());
+  }
+
+  @Override
+  public void setDebugMode(boolean mode) {
+    this.debugMode = mode;
+  }
+
+  @Override
+  public boolean isDebugEnabled() {
+    return debugMode;
+  }
+
+  /**
+   * Set whether to write entries as JSON objects, one per line, which
+   * allows log shippers to ingest the file without any parsing heuristics
+   * @param jsonLines True to write JSON lines, false to write plain text
+   */
+  public void setJsonLines(boolean jsonLines) {
+    this.jsonLines = jsonLines;
+  }
+
+  /**
+   * Write all buffered entries to the file
+   */
+  public synchronized void flush() {
+    try {
+      flushBuffer();
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * Flush all buffered entries, close the file and wait for pending compressions
+   */
+  public void close() {
+    synchronized (this) {
+      try {
+        flushBuffer();
+
+        if (channel != null)
+          channel.close();
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
+
+      channel = null;
+    }
+
+    background.shutdown();
+
+    try {
+      background.awaitTermination(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Append a message while stripping all color and formatting sequences
+   * @param sb Builder to append to
+   * @param message Message to strip
+   */
+  private void appendStripped(StringBuilder sb, String message) {
+    int length = message.length();
+
+    for (int i = 0; i < length; i++) {
+      char c = message.charAt(i);
+
+      if (c == '§' && i + 1 < length) {
+        char marker = message.charAt(i + 1);
+
+        // HEX notation of format §#RRGGBB
+        if (marker == '#' && i + 7 < length) {
+          i += 7;
+          continue;
+        }
+
+        if (marker < sequenceMarkers.length && sequenceMarkers[marker]) {
+          i++;
+          continue;
+        }
+      }
+
+      sb.append(c);
+    }
+  }
+
+  /**
+   * Write a complete line and roll the file over if it exceeded it's limits
+   * @param level Level of the line's entry
+   * @param line Line to write, including the trailing newline
+   */
+  private void writeLine(LogLevel level, CharSequence line) {
+    try {
+      write(line);
+
+      // Errors are written out immediately, as they might precede a crash
+      if (level == LogLevel.ERROR)
+        flushBuffer();
+
+      long now = System.currentTimeMillis();
+
+      if (now >= rollRetryAt && (fileSize + buffer.position() >= maxBytes || now - fileOpenedAt >= maxAgeMs))
+        roll();
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * Encode characters into the direct buffer, flushing it whenever it's full
+   * @param chars Characters to write
+   */
+  private void write(CharSequence chars) throws IOException {
+    CharBuffer input = CharBuffer.wrap(chars);
+    encoder.reset();
+
+    while (encoder.encode(input, buffer, true).isOverflow())
+      flushBuffer();
+
+    while (encoder.flush(buffer).isOverflow())
+      flushBuffer();
+  }
+
+  /**
+   * Write the direct buffer's contents to the file channel
+   */
+  private void flushBuffer() throws IOException {
+    if (channel == null || buffer.position() == 0)
+      return;
+
+    buffer.flip();
+    fileSize += buffer.remaining();
+
+    while (buffer.hasRemaining())
+      channel.write(buffer);
+
+    buffer.clear();
+  }
+
+  /**
+   * Open the latest log file for appending
+   */
+  private void openChannel() throws IOException {
+    this.channel = FileChannel.open(latest, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    this.fileSize = channel.size();
+
+    // Continue with the age of an existing file
+    this.fileOpenedAt = fileSize == 0 ? markCreated() : readCreated();
+  }
+
+  /**
+   * Persist the current time as the creation time of the latest file
+   * @return Creation time in epoch milliseconds
+   */
+  private long markCreated() throws IOException {
+    long now = System.currentTimeMillis();
+    Files.write(created, Long.toString(now).getBytes(StandardCharsets.UTF_8));
+    return now;
+  }
+
+  /**
+   * Read the persisted creation time of the latest file, falling back to the file's
+   * creation attribute if it hasn't been persisted, like for files of older versions
+   * @return Creation time in epoch milliseconds
+   */
+  private long readCreated() throws IOException {
+    try {
+      return Long.parseLong(new String(Files.readAllBytes(created), StandardCharsets.UTF_8).trim());
+    } catch (IOException | NumberFormatException e) {
+      return Files.readAttributes(latest, BasicFileAttributes.class).creationTime().toMillis();
+    }
+  }
+
+  /**
+   * Roll the current file over into a timestamped file, open a new latest file and
+   * compress the rolled file in the background. If the file can't be moved, logging
+   * continues within the current file and the roll over is retried later on.
+   */
+  private void roll() throws IOException {
+    flushBuffer();
+
+    if (channel != null)
+      channel.close();
+
+    String baseName = ROLL_FORMAT.format(Instant.now());
+    Path rolled = directory.resolve(baseName + ".log");
+
+    for (int i = 1; Files.exists(rolled) || Files.exists(directory.resolve(rolled.getFileName() + ".gz")); i++)
+      rolled = directory.resolve(baseName + "-" + i + ".log");
+
+    try {
+      Files.move(latest, rolled);
+    } catch (IOException e) {
+      rollRetryAt = System.currentTimeMillis() + ROLL_RETRY_MS;
+
+      // Keep on logging into the current file
+      try {
+        openChannel();
+      } catch (IOException reopenError) {
+        e.addSuppressed(reopenError);
+      }
+
+      throw e;
+    }
+
+    openChannel();
+
+    Path target = rolled;
+    background.execute(() -> compress(target));
+  }
+
+  /**
+   * Compress a file into a gzip file next to it and delete the original
+   * @param file File to compress
+   */
+  private void compress(Path file) {
+    Path target = file.resolveSibling(file.getFileName() + ".gz");
+
+    try (
+      InputStream in = Files.newInputStream(file);
+      OutputStream out = new GZIPOutputStream(Files.newOutputStream(target), 64 * 1024)
+    ) {
+      in.transferTo(out);
+    } catch (IOException e) {
+      e.printStackTrace();
+      return;
+    }
+
+    try {
+      Files.delete(file);
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+}
@@ -1,5 +1,9 @@
 package me.blvckbytes.bblibutil.logger;
 
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
   Created On: 04/22/2022
@@ -33,6 +37,43 @@ public interface ILogger {
    */
   void logDebug(String message);
 
+  /**
+   * Log a lazily built message on the debug level, where the
+   * supplier is only invoked if debug logging is enabled
+   * @param message Supplier of the message to log
+   */
+  default void logDebug(Supplier<String> message) {
+    if (!isDebugEnabled()) {
+      DebugFlightRecorder recorder = getFlightRecorder();
+
+      if (recorder != null)
+        recorder.record(message);
+
+      return;
+    }
+
+    logDebug(message.get());
+  }
+
+  /**
+   * Log a parameterized message on the debug level, where each {} placeholder
+   * is substituted by the next argument, only if debug logging is enabled
+   * @param pattern Pattern containing {} placeholders
+   * @param args Arguments to substitute in order
+   */
+  default void logDebugf(String pattern, Object... args) {
+    if (!isDebugEnabled()) {
+      DebugFlightRecorder recorder = getFlightRecorder();
+
+      if (recorder != null)
+        recorder.recordf(pattern, args);
+
+      return;
+    }
+
+    logDebug(LogMessageFormatter.format(pattern, args));
+  }
+
   /**
    * Log a stringified object on the debug level
    * @param o Object to stringify
@@ -52,9 +93,86 @@ public interface ILogger {
    */
   void logError(String message);
 
+  /**
+   * Log a message on the information level, attaching structured key value fields
+   * @param message Message to log
+   * @param keyValues Alternating keys and values
+   */
+  default void logInfo(String message, Object... keyValues) {
+    event(LogLevel.INFO, message).fields(keyValues).log();
+  }
+
+  /**
+   * Log a message on the error level, attaching structured key value fields
+   * @param message Message to log
+   * @param keyValues Alternating keys and values
+   */
+  default void logError(String message, Object... keyValues) {
+    event(LogLevel.ERROR, message).fields(keyValues).log();
+  }
+
+  /**
+   * Start building a structured event, which is logged by calling {@link LogEvent#log()}.
+   * Events are reused per thread, so they must not be held on to after logging.
+   * @param level Level to log on
+   * @param message Message of the event
+   * @return Event to add fields to
+   */
+  default LogEvent event(LogLevel level, String message) {
+    return LogEvent.acquire(this, level, message, level != LogLevel.DEBUG || isDebugEnabled());
+  }
+
+  /**
+   * Log a structured event, which is rendered as it's message followed by all fields by default
+   * @param event Event to log, only valid for the duration of this call
+   */
+  default void logEvent(LogEvent event) {
+    log(event.getLevel(), LogEventEncoder.renderText(event, "", "").toString());
+  }
+
+  /**
+   * Log a message on a given level, which implementations should do without applying any
+   * level filtering. Routes to the matching level's method by default.
+   * @param level Level to log on
+   * @param message Message to log
+   */
+  default void log(LogLevel level, String message) {
+    switch (level) {
+      case DEBUG:
+        logDebug(message);
+        break;
+
+      case ERROR:
+        logError(message);
+        break;
+
+      default:
+        logInfo(message);
+        break;
+    }
+  }
+
   /**
    * Set the current debug enable mode
    * @param mode Mode to set
    */
   void setDebugMode(boolean mode);
+
+  /**
+   * Checks whether messages on the debug level are currently being logged,
+   * which allows to skip building expensive debug messages entirely. Reports
+   * true by default, as the implementation decides on it's own otherwise.
+   */
+  default boolean isDebugEnabled() {
+    return true;
+  }
+
+  /**
+   * Get the recorder which captures debug messages while they're not being logged,
+   * where wrapping loggers pass on the recorder of the logger they wrap
+   * @return Recorder, null if this logger doesn't record
+   */
+  default @Nullable DebugFlightRecorder getFlightRecorder() {
+    return null;
+  }
 }
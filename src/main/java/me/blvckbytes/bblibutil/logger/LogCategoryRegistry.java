@@ -0,0 +1,105 @@
+package me.blvckbytes.bblibutil.logger;
+
+import me.blvckbytes.bblibdi.AutoConstruct;
+import me.blvckbytes.bblibdi.AutoInject;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Hands out named category loggers which all write through the main logger, while
+  their levels and debug sampling rates can be adjusted at runtime per category.
+  This allows to debug a single module without flooding the console with all others.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@AutoConstruct
+public class LogCategoryRegistry {
+
+  private final ILogger logger;
+  private final ObjectStringifier stringifier;
+  private final Map<String, CategoryLogger> categories;
+
+  public LogCategoryRegistry(
+    @AutoInject ILogger logger,
+    @AutoInject ObjectStringifier stringifier
+  ) {
+    this.logger = logger;
+    this.stringifier = stringifier;
+    this.categories = new ConcurrentHashMap<>();
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Get the logger of a class, which is categorized by the class' fully qualified name, so
+   * that equally named classes of different packages don't share a category
+   * @param clazz Class to get the logger for
+   */
+  public CategoryLogger getLogger(Class<?> clazz) {
+    return getLogger(clazz.getName());
+  }
+
+  /**
+   * Get the logger of a category, which is created if it doesn't yet exist
+   * @param category Name of the category
+   */
+  public CategoryLogger getLogger(String category) {
+    return categories.computeIfAbsent(category, name -> new CategoryLogger(name, logger, stringifier));
+  }
+
+  /**
+   * Set the minimum level of a category, which may also be
+   * done before any logger of that category has been requested
+   * @param category Name of the category
+   * @param level Minimum level to log, null to inherit the main logger's level
+   */
+  public void setLevel(String category, @Nullable LogLevel level) {
+    getLogger(category).setLevel(level);
+  }
+
+  /**
+   * Set the sampling rate of debug messages of a category
+   * @param category Name of the category
+   * @param every Only one in every n messages is logged, one or less disables sampling
+   */
+  public void setSampling(String category, int every) {
+    getLogger(category).setSampling(every);
+  }
+
+  /**
+   * Reset all categories to inherit the main logger's level without sampling
+   */
+  public void resetAll() {
+    for (CategoryLogger category : categories.values()) {
+      category.setLevel(null);
+      category.setSampling(1);
+    }
+  }
+
+  /**
+   * Get a snapshot of all known category names
+   */
+  public List<String> getCategoryNames() {
+    return new ArrayList<>(categories.keySet());
+  }
+}
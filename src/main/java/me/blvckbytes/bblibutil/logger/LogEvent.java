@@ -0,0 +1,310 @@
+package me.blvckbytes.bblibutil.logger;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  A structured log event, made up of a message and an ordered list of key value
+  fields. Events are reused per thread, so building one doesn't allocate and primitive
+  values are stored without boxing. An event is only valid until it has been logged.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class LogEvent {
+
+  // Value types of fields
+  static final byte TYPE_OBJECT = 0, TYPE_LONG = 1, TYPE_DOUBLE = 2, TYPE_BOOLEAN = 3;
+
+  private static final int INITIAL_FIELDS = 8;
+
+  private static final ThreadLocal<LogEvent> reusable = ThreadLocal.withInitial(LogEvent::new);
+
+  private @Nullable ILogger target;
+  private LogLevel level;
+  private String message;
+  private long timestamp;
+  private boolean enabled, inUse;
+
+  // Parallel arrays of field data, primitives are kept in the numbers array
+  private String[] keys;
+  private Object[] objects;
+  private long[] numbers;
+  private byte[] types;
+  private int size;
+
+  private LogEvent() {
+    this.level = LogLevel.INFO;
+    this.message = "";
+    this.keys = new String[INITIAL_FIELDS];
+    this.objects = new Object[INITIAL_FIELDS];
+    this.numbers = new long[INITIAL_FIELDS];
+    this.types = new byte[INITIAL_FIELDS];
+  }
+
+  /**
+   * Acquire an event of the current thread, which falls back to a new instance if the
+   * thread's event is still being built (when logging while building an event, or if an
+   * event has been abandoned without being logged). The new instance takes over as the
+   * thread's event, so that an abandoned event doesn't keep all later events from reuse.
+   * @param target Logger to log the event to
+   * @param level Level of the event
+   * @param message Message of the event
+   * @param enabled Whether the level is enabled, disabled events ignore all fields
+   * @return Event to build
+   */
+  static LogEvent acquire(ILogger target, LogLevel level, String message, boolean enabled) {
+    LogEvent event = reusable.get();
+
+    // The event in use stays valid for it's builder, as it's only dropped from the thread
+    if (event.inUse) {
+      event = new LogEvent();
+      reusable.set(event);
+    }
+
+    event.target = target;
+    event.level = level;
+    event.message = message;
+    event.timestamp = System.currentTimeMillis();
+    event.enabled = enabled;
+    event.inUse = true;
+    event.size = 0;
+    return event;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Add a field of any type, which will be rendered by it's string representation
+   * @param key Key of the field
+   * @param value Value of the field
+   */
+  public LogEvent field(String key, @Nullable Object value) {
+    if (enabled) {
+      int index = claim(key, TYPE_OBJECT);
+      objects[index] = value;
+    }
+
+    return this;
+  }
+
+  /**
+   * Add an integer field
+   * @param key Key of the field
+   * @param value Value of the field
+   */
+  public LogEvent field(String key, long value) {
+    if (enabled)
+      numbers[claim(key, TYPE_LONG)] = value;
+
+    return this;
+  }
+
+  /**
+   * Add a decimal field
+   * @param key Key of the field
+   * @param value Value of the field
+   */
+  public LogEvent field(String key, double value) {
+    if (enabled)
+      numbers[claim(key, TYPE_DOUBLE)] = Double.doubleToRawLongBits(value);
+
+    return this;
+  }
+
+  /**
+   * Add a boolean field
+   * @param key Key of the field
+   * @param value Value of the field
+   */
+  public LogEvent field(String key, boolean value) {
+    if (enabled)
+      numbers[claim(key, TYPE_BOOLEAN)] = value ? 1 : 0;
+
+    return this;
+  }
+
+  /**
+   * Add multiple fields of alternating keys and values
+   * @param keyValues Alternating keys and values, keys are stringified
+   */
+  public LogEvent fields(Object... keyValues) {
+    if (!enabled)
+      return this;
+
+    for (int i = 0; i + 1 < keyValues.length; i += 2)
+      field(String.valueOf(keyValues[i]), keyValues[i + 1]);
+
+    return this;
+  }
+
+  /**
+   * Log this event to the logger it has been created by and release it for reuse
+   */
+  public void log() {
+    try {
+      if (enabled && target != null)
+        target.logEvent(this);
+    } finally {
+      release();
+    }
+  }
+
+  /**
+   * Create a detached copy of this event, which stays valid after this event has been logged
+   */
+  public LogEvent copy() {
+    LogEvent res = new LogEvent();
+    res.target = target;
+    res.level = level;
+    res.message = message;
+    res.timestamp = timestamp;
+    res.enabled = enabled;
+    res.size = size;
+    res.keys = Arrays.copyOf(keys, Math.max(size, 1));
+    res.objects = Arrays.copyOf(objects, Math.max(size, 1));
+    res.numbers = Arrays.copyOf(numbers, Math.max(size, 1));
+    res.types = Arrays.copyOf(types, Math.max(size, 1));
+    return res;
+  }
+
+  public LogLevel getLevel() {
+    return level;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * Get the time this event has been created at, in milliseconds since the epoch
+   */
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  /**
+   * Get the number of fields of this event
+   */
+  public int getFieldCount() {
+    return size;
+  }
+
+  /**
+   * Get the key of a field
+   * @param index Index of the field
+   */
+  public String getKey(int index) {
+    return keys[index];
+  }
+
+  /**
+   * Get the value of a field, where primitives are boxed
+   * @param index Index of the field
+   */
+  public @Nullable Object getValue(int index) {
+    switch (types[index]) {
+      case TYPE_LONG:
+        return numbers[index];
+
+      case TYPE_DOUBLE:
+        return Double.longBitsToDouble(numbers[index]);
+
+      case TYPE_BOOLEAN:
+        return numbers[index] != 0;
+
+      default:
+        return objects[index];
+    }
+  }
+
+  /**
+   * Append the value of a field to a builder without boxing primitives
+   * @param index Index of the field
+   * @param sb Builder to append to
+   */
+  public void appendValue(int index, StringBuilder sb) {
+    switch (types[index]) {
+      case TYPE_LONG:
+        sb.append(numbers[index]);
+        break;
+
+      case TYPE_DOUBLE:
+        sb.append(Double.longBitsToDouble(numbers[index]));
+        break;
+
+      case TYPE_BOOLEAN:
+        sb.append(numbers[index] != 0);
+        break;
+
+      default:
+        sb.append(objects[index]);
+        break;
+    }
+  }
+
+  /**
+   * Get the value type of a field
+   * @param index Index of the field
+   */
+  byte getType(int index) {
+    return types[index];
+  }
+
+  /**
+   * Get the raw primitive value of a field
+   * @param index Index of the field
+   */
+  long getNumber(int index) {
+    return numbers[index];
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Claim the next field slot, growing all arrays if required
+   * @param key Key of the field
+   * @param type Value type of the field
+   * @return Index of the claimed slot
+   */
+  private int claim(String key, byte type) {
+    if (size == keys.length) {
+      int capacity = keys.length * 2;
+      keys = Arrays.copyOf(keys, capacity);
+      objects = Arrays.copyOf(objects, capacity);
+      numbers = Arrays.copyOf(numbers, capacity);
+      types = Arrays.copyOf(types, capacity);
+    }
+
+    keys[size] = key;
+    types[size] = type;
+    return size++;
+  }
+
+  /**
+   * Release this event for reuse, dropping all references to field values
+   */
+  private void release() {
+    Arrays.fill(objects, 0, size, null);
+    target = null;
+    inUse = false;
+  }
+}
@@ -0,0 +1,234 @@
+package me.blvckbytes.bblibutil.logger;
+
+import org.jetbrains.annotations.Nullable;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Encodes structured log events either into single JSON lines, which log shippers
+  can ingest without any parsing heuristics, or into human readable text. Encoding
+  happens within a reusable builder per thread to avoid allocations.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public final class LogEventEncoder {
+
+  // Builders grown beyond this capacity are not kept around for reuse
+  private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+  private static final ThreadLocal<StringBuilder> builders = ThreadLocal.withInitial(() -> new StringBuilder(512));
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private LogEventEncoder() {}
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Encode an event as a single line JSON object (including the trailing newline)
+   * @param event Event to encode
+   * @param source Name of the event's source, optional
+   * @return Thread-local builder containing the line, only valid until the next call
+   */
+  public static StringBuilder encodeJson(LogEvent event, @Nullable String source) {
+    StringBuilder sb = acquireBuilder();
+
+    sb.append("{\"ts\":").append(event.getTimestamp());
+    sb.append(",\"level\":\"").append(event.getLevel().name()).append('"');
+
+    if (source != null) {
+      sb.append(",\"source\":");
+      appendJsonString(sb, source);
+    }
+
+    sb.append(",\"msg\":");
+    appendJsonString(sb, event.getMessage());
+
+    for (int i = 0; i < event.getFieldCount(); i++) {
+      sb.append(',');
+      appendJsonString(sb, event.getKey(i));
+      sb.append(':');
+      appendJsonValue(sb, event, i);
+    }
+
+    return sb.append("}\n");
+  }
+
+  /**
+   * Encode a plain message as a single line JSON object (including the trailing newline)
+   * @param timestamp Time of the message in milliseconds since the epoch
+   * @param level Level of the message
+   * @param message Message to encode
+   * @param source Name of the message's source, optional
+   * @return Thread-local builder containing the line, only valid until the next call
+   */
+  public static StringBuilder encodeJson(long timestamp, LogLevel level, String message, @Nullable String source) {
+    StringBuilder sb = acquireBuilder();
+
+    sb.append("{\"ts\":").append(timestamp);
+    sb.append(",\"level\":\"").append(level.name()).append('"');
+
+    if (source != null) {
+      sb.append(",\"source\":");
+      appendJsonString(sb, source);
+    }
+
+    sb.append(",\"msg\":");
+    appendJsonString(sb, message);
+
+    return sb.append("}\n");
+  }
+
+  /**
+   * Render an event as human readable text of the format: message key=value key=value
+   * @param event Event to render
+   * @param keyColor Color to prepend to keys, may be empty
+   * @param valueColor Color to prepend to values, may be empty
+   * @return Thread-local builder containing the text, only valid until the next call
+   */
+  public static StringBuilder renderText(LogEvent event, String keyColor, String valueColor) {
+    StringBuilder sb = acquireBuilder();
+    sb.append(event.getMessage());
+
+    for (int i = 0; i < event.getFieldCount(); i++) {
+      sb.append(' ').append(keyColor).append(event.getKey(i)).append('=').append(valueColor);
+      event.appendValue(i, sb);
+    }
+
+    return sb;
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Get the current thread's builder in an empty state
+   */
+  private static StringBuilder acquireBuilder() {
+    StringBuilder sb = builders.get();
+
+    // Don't hold on to huge buffers after large events
+    if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+      sb = new StringBuilder(512);
+      builders.set(sb);
+    }
+
+    sb.setLength(0);
+    return sb;
+  }
+
+  /**
+   * Append a field's value as a JSON value
+   * @param sb Builder to append to
+   * @param event Event containing the field
+   * @param index Index of the field
+   */
+  private static void appendJsonValue(StringBuilder sb, LogEvent event, int index) {
+    switch (event.getType(index)) {
+      case LogEvent.TYPE_LONG:
+        sb.append(event.getNumber(index));
+        return;
+
+      case LogEvent.TYPE_BOOLEAN:
+        sb.append(event.getNumber(index) != 0);
+        return;
+
+      case LogEvent.TYPE_DOUBLE: {
+        double value = Double.longBitsToDouble(event.getNumber(index));
+
+        // JSON has no notation for these values
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+          sb.append('"').append(value).append('"');
+          return;
+        }
+
+        sb.append(value);
+        return;
+      }
+
+      default:
+        break;
+    }
+
+    Object value = event.getValue(index);
+
+    if (value == null) {
+      sb.append("null");
+      return;
+    }
+
+    if (value instanceof Boolean || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+      sb.append(value);
+      return;
+    }
+
+    appendJsonString(sb, value.toString());
+  }
+
+  /**
+   * Append a string as a quoted and escaped JSON string, stripping color sequences
+   * @param sb Builder to append to
+   * @param value String to append
+   */
+  private static void appendJsonString(StringBuilder sb, String value) {
+    sb.append('"');
+
+    int length = value.length();
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+
+      // Strip color and formatting sequences, including the HEX notation of format §#RRGGBB
+      if (c == '§' && i + 1 < length) {
+        i += (value.charAt(i + 1) == '#' && i + 7 < length) ? 7 : 1;
+        continue;
+      }
+
+      switch (c) {
+        case '"':
+          sb.append("\\\"");
+          break;
+
+        case '\\':
+          sb.append("\\\\");
+          break;
+
+        case '\n':
+          sb.append("\\n");
+          break;
+
+        case '\r':
+          sb.append("\\r");
+          break;
+
+        case '\t':
+          sb.append("\\t");
+          break;
+
+        default:
+          if (c < 0x20) {
+            sb.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            break;
+          }
+
+          sb.append(c);
+      }
+    }
+
+    sb.append('"');
+  }
+}
@@ -0,0 +1,37 @@
+package me.blvckbytes.bblibutil.logger;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Represents all available log levels as well as the color they're rendered in,
+  ordered by their severity ascending.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Getter
+@AllArgsConstructor
+public enum LogLevel {
+
+  DEBUG(LogColor.DEBUG),
+  INFO(LogColor.INFO),
+  ERROR(LogColor.ERROR),
+  ;
+
+  private final LogColor color;
+
+}
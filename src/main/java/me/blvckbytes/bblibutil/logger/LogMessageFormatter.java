@@ -0,0 +1,73 @@
+package me.blvckbytes.bblibutil.logger;
+
+import java.util.Arrays;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Formats parameterized log messages, where each {} placeholder within the
+  pattern is substituted by the next argument in line.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public final class LogMessageFormatter {
+
+  private LogMessageFormatter() {}
+
+  /**
+   * Substitute all placeholders of a pattern by their arguments, where surplus
+   * placeholders are kept as is and surplus arguments are ignored
+   * @param pattern Pattern containing {} placeholders
+   * @param args Arguments to substitute in order
+   * @return Formatted message
+   */
+  public static String format(String pattern, Object... args) {
+    if (args == null || args.length == 0)
+      return pattern;
+
+    StringBuilder sb = new StringBuilder(pattern.length() + args.length * 16);
+    int argIndex = 0;
+    int last = 0;
+
+    while (argIndex < args.length) {
+      int placeholder = pattern.indexOf("{}", last);
+
+      // No more placeholders available
+      if (placeholder < 0)
+        break;
+
+      sb.append(pattern, last, placeholder);
+      appendArgument(sb, args[argIndex++]);
+      last = placeholder + 2;
+    }
+
+    sb.append(pattern, last, pattern.length());
+    return sb.toString();
+  }
+
+  /**
+   * Append an argument's string representation, where arrays are expanded
+   * @param sb Builder to append to
+   * @param arg Argument to append
+   */
+  private static void appendArgument(StringBuilder sb, Object arg) {
+    if (arg instanceof Object[]) {
+      sb.append(Arrays.deepToString((Object[]) arg));
+      return;
+    }
+
+    sb.append(arg);
+  }
+}
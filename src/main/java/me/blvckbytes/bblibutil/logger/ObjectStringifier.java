@@ -2,19 +2,33 @@ package me.blvckbytes.bblibutil.logger;
 
 import me.blvckbytes.bblibdi.AutoConstruct;
 import me.blvckbytes.bblibdi.AutoInject;
-
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAmount;
+import java.util.*;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
   Created On: 04/24/2022
 
   Stringify all declared fields of an object to make it easily logable in
-  a recursive fashion while limiting the maximum depth.
+  a recursive fashion while limiting the maximum depth. The output is streamed
+  within a length and element budget, where cyclic references are detected.
 
   This program is free software: you can redistribute it and/or modify
   it under the terms of the GNU Affero General Public License as published
@@ -32,21 +46,46 @@ import java.util.Optional;
 @AutoConstruct
 public class ObjectStringifier {
 
-  private final ILogger logger;
+  // Reflective metadata per class, which is only computed once on first use
+  private static final ClassValue<ClassMeta> classMetas = new ClassValue<>() {
+    @Override
+    protected ClassMeta computeValue(Class<?> type) {
+      return new ClassMeta(type);
+    }
+  };
+
+  // Kind of value per class, which decides on how values are written
+  private static final ClassValue<ValueKind> valueKinds = new ClassValue<>() {
+    @Override
+    protected ValueKind computeValue(Class<?> type) {
+      return ValueKind.of(type);
+    }
+  };
+
+  // Placeholder for values of fields which couldn't be read
+  private static final Object INACCESSIBLE = new Object();
+
   private final String otherColor;
   private final String valueColor;
   private final String symbolColor;
   private final String errorColor;
 
+  // Whether to read fields through the generated per-class accessors, off by default
+  private volatile boolean generatedAccessors;
+
   public ObjectStringifier(
     @AutoInject ILogger logger,
     @AutoInject ILogColorSupplier colorSupplier
   ) {
-    this.logger = logger;
     this.otherColor = colorSupplier.getLogColor(LogColor.OSTR_OTHER);
     this.valueColor = colorSupplier.getLogColor(LogColor.OSTR_VALUE);
     this.symbolColor = colorSupplier.getLogColor(LogColor.OSTR_SYMBOL);
     this.errorColor = colorSupplier.getLogColor(LogColor.OSTR_ERROR);
+
+    // Allow the recorder to format objects which have been recorded while debug logging is off
+    DebugFlightRecorder recorder = logger.getFlightRecorder();
+    if (recorder != null)
+      recorder.setStringifier(this);
   }
 
   //=========================================================================//
@@ -58,250 +97,764 @@ public class ObjectStringifier {
    * @param o Object to stringify
    * @param depth How deep to stringify list or array elements if they're objects
    *
-   * @return String representation or null if it's an object
+   * @return String representation
    */
   public String stringifyObject(Object o, int depth) {
+    return stringifyObject(o, depth, StringifyOptions.DEFAULT);
+  }
+
+  /**
+   * Turn an object into a human readable string, if possible
+   * @param o Object to stringify
+   * @param depth How deep to stringify list or array elements if they're objects
+   * @param options Options regarding colors and output budgets
+   *
+   * @return String representation
+   */
+  public String stringifyObject(Object o, int depth, StringifyOptions options) {
+    StringBuilder sb = new StringBuilder();
+
+    try {
+      stringifyObject(o, depth, sb, options);
+    } catch (IOException e) {
+      // Cannot occur when appending to a builder
+      throw new UncheckedIOException(e);
+    }
+
+    return sb.toString();
+  }
+
+  /**
+   * Stream the human readable representation of an object into an appendable, where
+   * the output is truncated with a marker as soon as one of the budgets is exceeded
+   * and objects referencing one of their parents are marked as cycles
+   * @param o Object to stringify
+   * @param depth How deep to stringify list or array elements if they're objects
+   * @param out Appendable to write into
+   * @param options Options regarding colors and output budgets
+   */
+  public void stringifyObject(Object o, int depth, Appendable out, StringifyOptions options) throws IOException {
+    Output output = new Output(out, options);
+
+    try {
+      writeValue(output, o, depth);
+    } catch (BudgetExceededException e) {
+      output.writeTruncationMarker();
+    }
+  }
+
+  /**
+   * Set whether to read fields through accessors which are generated once per class,
+   * or through plain reflective field access, which is the default. Accessors are
+   * combined method handles, which the JIT doesn't inline when called through a
+   * non-constant handle, so only enable them after measuring a gain on the target
+   * JVM. Classes for which no accessor could be generated always use reflection.
+   * @param enabled True to use generated accessors, false to use reflection
+   */
+  public void setGeneratedAccessors(boolean enabled) {
+    this.generatedAccessors = enabled;
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Write any value, where strings are quoted, containers are listed
+   * and objects are walked until the depth is used up
+   * @param out Output to write to
+   * @param o Value to write
+   * @param depth How deep to stringify container elements if they're objects
+   */
+  private void writeValue(Output out, @Nullable Object o, int depth) throws IOException {
     // Directly stringify null values
-    if (o == null)
-      return "null";
-
-    Class<?> c = o.getClass();
-
-    // Return the string wrapped in quotes
-    // Add the value color after the actual value to account for colored strings
-    // Also escape backslashes for better readability
-    if (o instanceof String)
-      return "\"" + stripEscapeSequences(o.toString()) + valueColor + "\"";
-
-    // Just stringify primitives (and their wrappers) or enums
-    if (
-      c.isPrimitive()
-        || c.isEnum()
-        || o instanceof Integer
-        || o instanceof Long
-        || o instanceof Double
-        || o instanceof Float
-        || o instanceof Boolean
-        || o instanceof Byte
-        || o instanceof Short
-        || o instanceof Character
-    )
-      return o.toString();
-
-    // Is an array or a list, format as [...]
-    boolean isList = List.class.isAssignableFrom(c);
-    if (c.isArray() || isList) {
-      StringBuilder sb = new StringBuilder(otherColor + "[");
-
-      // Try to get into the "iterable"
-      List<?> list;
-      try {
-        list = (List<?>) (isList ? o : Arrays.asList((Object[]) o));
-      } catch (Exception e) {
-        list = List.of(
-          otherColor + "<" +
-          errorColor + "ERROR" +
-          otherColor + ">"
-        );
+    if (o == null) {
+      out.text("null");
+      return;
+    }
+
+    switch (valueKinds.get(o.getClass())) {
+      // Write the string wrapped in quotes
+      // Add the value color after the actual value to account for colored strings
+      case STRING:
+        out.text("\"");
+        writeEscaped(out, o.toString());
+        out.color(out.value);
+        out.text("\"");
+        return;
+
+      case SCALAR:
+        out.text(o.toString());
+        return;
+
+      case PRIMITIVE_ARRAY:
+        writePrimitiveArray(out, o);
+        return;
+
+      case OBJECT_ARRAY:
+      case COLLECTION:
+      case MAP:
+        writeContainer(out, o, depth);
+        return;
+
+      case OPTIONAL: {
+        Optional<?> opt = (Optional<?>) o;
+
+        // Empty, just write placeholder
+        if (opt.isEmpty()) {
+          out.color(out.other);
+          out.text("<");
+          out.color(out.value);
+          out.text("EMPTY");
+          out.color(out.other);
+          out.text(">");
+          return;
+        }
+
+        // Stringify it's contents
+        writeValue(out, opt.get(), depth);
+        return;
       }
 
-      // Iterate list or list from array
-      for (int i = 0; i < list.size(); i++) {
-        Object curr = list.get(i);
-        Object res = stringifyObject(curr, depth);
-
-        // Could not stringify locally
-        if (res == null) {
-          String tarName = curr.getClass().getSimpleName();
-
-          // Depth remains, try to reach out to the object stringifier
-          if (depth > 0) {
-            res = (
-              symbolColor + tarName +
-              otherColor + "(" +
-              valueColor + stringifyObjectProperties(curr, depth - 1) +
-              otherColor + ")"
-            );
+      default:
+        writeObject(out, o, depth);
+    }
+  }
+
+  /**
+   * Write an object array or a collection as [a, b, c] and a map as {k=v, k=v},
+   * where elements beyond the container limit are only counted
+   * @param out Output to write to
+   * @param o Container to write
+   * @param depth How deep to stringify elements if they're objects
+   */
+  private void writeContainer(Output out, Object o, int depth) throws IOException {
+    // Contains itself somewhere down the line
+    if (!out.enter(o)) {
+      writeCycle(out, o);
+      return;
+    }
+
+    boolean isMap = o instanceof Map;
+
+    try {
+      out.color(out.other);
+      out.text(isMap ? "{" : "[");
+
+      int written = 0, size;
+
+      try {
+        if (o instanceof Object[]) {
+          Object[] array = (Object[]) o;
+          size = array.length;
+
+          for (; written < size && written < out.maxContainerElements; written++) {
+            writeSeparator(out, written);
+            writeValue(out, array[written], depth);
           }
+        }
+
+        else if (isMap) {
+          Map<?, ?> map = (Map<?, ?>) o;
+          size = map.size();
+
+          for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (written == out.maxContainerElements)
+              break;
 
-          // No more depth, use placeholder
-          else {
-            res = (
-              otherColor + "<" +
-              symbolColor + tarName +
-              otherColor + ">"
-            );
+            writeSeparator(out, written++);
+            writeValue(out, entry.getKey(), depth);
+            out.color(out.other);
+            out.text("=");
+            out.color(out.value);
+            writeValue(out, entry.getValue(), depth);
           }
         }
 
-        // Call recursively until a scalar value occurs
-        sb
-          .append(i == 0 ? "" : otherColor + ", ")
-          .append(valueColor).append(res);
+        else {
+          Collection<?> collection = (Collection<?>) o;
+          size = collection.size();
+
+          for (Object curr : collection) {
+            if (written == out.maxContainerElements)
+              break;
+
+            writeSeparator(out, written++);
+            writeValue(out, curr, depth);
+          }
+        }
+
+        writeRemaining(out, written, size - written);
+      }
+
+      // Modified while being iterated, which may happen when logging off-thread
+      catch (ConcurrentModificationException e) {
+        out.color(out.other);
+        out.text("<");
+        out.color(out.error);
+        out.text("CONCURRENTLY MODIFIED");
+        out.color(out.other);
+        out.text(">");
       }
 
       // Reset color at the end
-      sb.append(otherColor).append("]").append("§r");
-      return sb.toString();
+      out.color(out.other);
+      out.text(isMap ? "}" : "]");
+      out.color(out.reset);
+    } finally {
+      out.exit(o);
     }
+  }
 
-    // Is an optional
-    if (o instanceof Optional<?>) {
-      Optional<?> opt = (Optional<?>) o;
+  /**
+   * Write an array of primitives as [a, b, c] without boxing it's elements,
+   * where elements beyond the container limit are only counted
+   * @param out Output to write to
+   * @param array Array to write
+   */
+  private void writePrimitiveArray(Output out, Object array) throws IOException {
+    int length = Array.getLength(array);
+    int written = Math.min(length, out.maxContainerElements);
+
+    out.color(out.other);
+    out.text("[");
+
+    for (int i = 0; i < written; i++) {
+      writeSeparator(out, i);
+
+      if (array instanceof int[])
+        out.number(((int[]) array)[i]);
+      else if (array instanceof long[])
+        out.number(((long[]) array)[i]);
+      else if (array instanceof byte[])
+        out.number(((byte[]) array)[i]);
+      else if (array instanceof short[])
+        out.number(((short[]) array)[i]);
+      else if (array instanceof double[])
+        out.decimal(((double[]) array)[i]);
+      else if (array instanceof float[])
+        out.decimal(((float[]) array)[i]);
+      else if (array instanceof boolean[])
+        out.text(((boolean[]) array)[i] ? "true" : "false");
+      else if (array instanceof char[])
+        out.text(((char[]) array)[i]);
+    }
 
-      // Empty, just write placeholder
-      if (opt.isEmpty()) {
-        return (
-          otherColor + "<" +
-          valueColor + "EMPTY" +
-          otherColor + ">"
-        );
-      }
+    writeRemaining(out, written, length - written);
+
+    // Reset color at the end
+    out.color(out.other);
+    out.text("]");
+    out.color(out.reset);
+  }
+
+  /**
+   * Account for the next container element and write it's leading separator, if applicable
+   * @param out Output to write to
+   * @param index Index of the element
+   */
+  private void writeSeparator(Output out, int index) throws IOException {
+    out.element();
 
-      // Stringify it's contents
-      else
-        o = opt.get();
+    if (index > 0) {
+      out.color(out.other);
+      out.text(", ");
     }
 
-    return formatStringifiedObjectProperties(o, depth);
+    out.color(out.value);
   }
 
-  //=========================================================================//
-  //                                Utilities                                //
-  //=========================================================================//
-
   /**
-   * Formats the result of the call to {@link #stringifyObjectProperties(Object, int)}
-   * @param o Object to stringify
-   * @param depth Depth to stringify until
-   * @return Formatted result
+   * Write the number of elements which have been left out due to the container limit
+   * @param out Output to write to
+   * @param written Number of elements which have been written
+   * @param remaining Number of elements which have been left out
    */
-  private String formatStringifiedObjectProperties(Object o, int depth) {
-    String sub = stringifyObjectProperties(o, depth);
-
-    // Couldn't stringify, use placeholder
-    if (sub == null) {
-      return (
-        otherColor + "<" +
-        symbolColor + o.getClass().getSimpleName() +
-        otherColor + ">"
-      );
-    }
-
-    return (
-      symbolColor + o.getClass().getSimpleName() +
-      otherColor + "(" +
-      valueColor + sub +
-      otherColor + ")"
-    );
+  private void writeRemaining(Output out, int written, int remaining) throws IOException {
+    if (remaining <= 0)
+      return;
+
+    out.color(out.other);
+    out.text(written == 0 ? "<" : ", <");
+    out.color(out.value);
+    out.text("+");
+    out.number(remaining);
+    out.text(" more");
+    out.color(out.other);
+    out.text(">");
   }
 
   /**
-   * Stringify an object's properties into a comma separated list
-   * @param o Object to query
+   * Write an object as Name(a, b, c) by walking it's fields, or
+   * as a <Name> placeholder if the depth has been used up
+   * @param out Output to write to
+   * @param o Object to write
    * @param depth Levels of recursion to allow when stringifying object fields
-   * @return Built comma separated list string or null if depth is used up
    */
-  private String stringifyObjectProperties(Object o, int depth) {
-    // Depth used up
-    if (depth <= 0)
-      return null;
-
-    // Object is null
-    if (o == null)
-      return "null";
+  private void writeObject(Output out, Object o, int depth) throws IOException {
+    ClassMeta meta = classMetas.get(o.getClass());
+
+    // Depth used up, use placeholder
+    if (depth <= 0) {
+      out.color(out.other);
+      out.text("<");
+      out.color(out.symbol);
+      out.text(meta.simpleName);
+      out.color(out.other);
+      out.text(">");
+      return;
+    }
 
-    StringBuilder props = new StringBuilder();
+    // References one of it's parents
+    if (!out.enter(o)) {
+      writeCycle(out, o);
+      return;
+    }
 
     try {
-      Class<?> cl = o.getClass();
-      Field[] fields = listFields(cl);
+      out.color(out.symbol);
+      out.text(meta.simpleName);
+      out.color(out.other);
+      out.text("(");
+      out.color(out.value);
 
-      // This class doesn't contain any fields, search for superclasses
-      while (
-        // No fields yet
-        fields.length == 0 &&
+      Object[] values = readFieldValues(meta, o);
 
-        // Superclass available
-        cl.getSuperclass() != null
-      ) {
-        // Navigate into superclass and list it's fields
-        cl = cl.getSuperclass();
+      // Loop all fields of this object and add them to a comma separated list
+      for (int i = 0; i < values.length; i++) {
+        out.element();
 
-        // Skip static fields
-        fields = listFields(cl);
-      }
-
-      // Loop all fields of this packet and add them to a comma separated list
-      for (int i = 0; i < fields.length; i++) {
-        Field f = fields[i];
+        if (i > 0) {
+          out.color(out.other);
+          out.text(", ");
+        }
 
-        // Also access private fields, of course
-        try {
-          f.setAccessible(true);
-        } catch (Exception e) {
-          // Could not access this field, skip it
-          // I am intentionally not logging exceptions here, as it may pollute fast logs
+        // The field couldn't be read, only leave out it's value
+        if (values[i] == INACCESSIBLE) {
+          out.color(out.error);
+          out.text("<inaccessible>");
           continue;
         }
 
-        // Call to resolve this object into a simple string (no object field walking)
-        Object tar = f.get(o);
-        String str = stringifyObject(tar, depth - 1);
-
-        // Not an "easy" stringify
-        if (str == null)
-          return formatStringifiedObjectProperties(o, depth);
-
-        // Stringify and append with leading comma, if applicable
-        props
-          .append(i == 0 ? "" : otherColor + ", ")
-          .append(valueColor).append(str);
+        out.color(out.value);
+        writeValue(out, values[i], depth - 1);
       }
 
-    } catch (Exception e) {
-      logger.logError(e);
+      // Re-set the colors at the end
+      out.color(out.reset);
+      out.color(out.other);
+      out.text(")");
+    } finally {
+      out.exit(o);
     }
-
-    // Re-set the colors at the end
-    return props + "§r";
   }
 
   /**
-   * List all fields that are to be printed from a class
-   * @param c Target class
-   * @return Fields to print
+   * Write a placeholder for an object which has already been visited on the current path
+   * @param out Output to write to
+   * @param o Object which would create a cycle
    */
-  private Field[] listFields(Class<?> c) {
-    return Arrays.stream(c.getDeclaredFields())
-      .filter(f -> !Modifier.isStatic(f.getModifiers()))
-      .toArray(Field[]::new);
+  private void writeCycle(Output out, Object o) throws IOException {
+    out.color(out.other);
+    out.text("<");
+    out.color(out.error);
+    out.text("cycle ");
+    out.color(out.symbol);
+    out.text(classMetas.get(o.getClass()).simpleName);
+    out.color(out.other);
+    out.text(">");
   }
 
   /**
-   * Strip all escape sequences from a string
+   * Write a string while replacing newlines and tabs by placeholders and stripping all
+   * other escape sequences, as well as the string's own color codes in plain mode
+   * @param out Output to write to
    * @param input Input string
-   * @return String without escape sequences
    */
-  private String stripEscapeSequences(String input) {
-    StringBuilder sb = new StringBuilder();
+  private void writeEscaped(Output out, String input) throws IOException {
+    int length = input.length();
 
     // Filter characters
-    for (char c : input.toCharArray()) {
+    for (int i = 0; i < length; i++) {
+      char c = input.charAt(i);
+
       if (c == '\n' || c == '\t') {
-        sb.append(otherColor).append("<")
-          .append(valueColor).append(c == '\n' ? "nl" : "tab")
-          .append(otherColor).append(">");
+        out.color(out.other);
+        out.text("<");
+        out.color(out.value);
+        out.text(c == '\n' ? "nl" : "tab");
+        out.color(out.other);
+        out.text(">");
       }
 
       // Strip escape sequences
       if (c < 32)
         continue;
 
+      // Strip color and formatting sequences, including the HEX notation of format §#RRGGBB
+      if (c == '§' && !out.colored && i + 1 < length) {
+        i += (input.charAt(i + 1) == '#' && i + 7 < length) ? 7 : 1;
+        continue;
+      }
+
       // Append this char to the result
-      sb.append(c);
+      out.text(c);
     }
+  }
 
-    return sb.toString();
+  /**
+   * Read the values of all printed fields of an object
+   * @param meta Metadata of the object's class
+   * @param o Object to read from
+   * @return Field values in the order of the metadata's fields, where fields which
+   *         couldn't be read are represented by {@link #INACCESSIBLE}
+   */
+  private Object[] readFieldValues(ClassMeta meta, Object o) {
+    MethodHandle accessor = generatedAccessors ? meta.getAccessor() : null;
+
+    if (accessor != null) {
+      try {
+        return (Object[]) accessor.invokeExact(o);
+      } catch (Error e) {
+        throw e;
+      } catch (Throwable ignored) {
+        // Fall back to reflective access below
+      }
+    }
+
+    Object[] values = new Object[meta.fields.length];
+    for (int i = 0; i < values.length; i++) {
+      try {
+        values[i] = meta.fields[i].get(o);
+      } catch (Exception e) {
+        values[i] = INACCESSIBLE;
+      }
+    }
+
+    return values;
+  }
+
+  /**
+   * Kinds of values, each of which is written in a different way
+   */
+  private enum ValueKind {
+    // Strings and other char sequences, which are quoted
+    STRING,
+    // Primitive wrappers, enums and immutable JDK value types, which are written by their string representation
+    SCALAR,
+    PRIMITIVE_ARRAY,
+    OBJECT_ARRAY,
+    COLLECTION,
+    MAP,
+    OPTIONAL,
+    // Anything else, which is walked field by field
+    OBJECT;
+
+    // Types which are well represented by their string representation
+    private static final Class<?>[] SCALAR_TYPES = {
+      Number.class, Boolean.class, Character.class, Enum.class, UUID.class,
+      TemporalAccessor.class, TemporalAmount.class, ZoneId.class, Date.class,
+      File.class, Path.class, URI.class, URL.class, Locale.class, Charset.class,
+      Class.class, OptionalInt.class, OptionalLong.class, OptionalDouble.class
+    };
+
+    /**
+     * Decide on the kind of values of a class
+     * @param c Class of the value
+     */
+    private static ValueKind of(Class<?> c) {
+      if (CharSequence.class.isAssignableFrom(c))
+        return STRING;
+
+      if (c.isArray())
+        return c.getComponentType().isPrimitive() ? PRIMITIVE_ARRAY : OBJECT_ARRAY;
+
+      if (Collection.class.isAssignableFrom(c))
+        return COLLECTION;
+
+      if (Map.class.isAssignableFrom(c))
+        return MAP;
+
+      if (Optional.class.isAssignableFrom(c))
+        return OPTIONAL;
+
+      if (c.isPrimitive())
+        return SCALAR;
+
+      for (Class<?> scalarType : SCALAR_TYPES) {
+        if (scalarType.isAssignableFrom(c))
+          return SCALAR;
+      }
+
+      return OBJECT;
+    }
+  }
+
+  /**
+   * Signals that a budget of the output has been exceeded, which unwinds the whole walk.
+   * A shared instance without a stack trace is used, as it's only used for control flow.
+   */
+  private static class BudgetExceededException extends RuntimeException {
+    private static final BudgetExceededException INSTANCE = new BudgetExceededException();
+
+    private BudgetExceededException() {
+      super(null, null, false, false);
+    }
+  }
+
+  /**
+   * Output state of a single stringification, which keeps track of the budgets
+   * as well as of the objects on the current path, identified by their identity
+   */
+  private class Output {
+    private final Appendable out;
+    private final int maxLength, maxElements, maxContainerElements;
+    private final Set<Object> path;
+
+    // Colors to use, which are all empty in plain mode
+    private final boolean colored;
+    private final String other, value, symbol, error, reset;
+
+    private int length, elements;
+
+    private Output(Appendable out, StringifyOptions options) {
+      this.out = out;
+      this.maxLength = options.getMaxLength();
+      this.maxElements = options.getMaxElements();
+      this.maxContainerElements = options.getMaxContainerElements();
+      this.path = Collections.newSetFromMap(new IdentityHashMap<>());
+
+      this.colored = options.isColored();
+      this.other = colored ? otherColor : "";
+      this.value = colored ? valueColor : "";
+      this.symbol = colored ? symbolColor : "";
+      this.error = colored ? errorColor : "";
+      this.reset = colored ? "§r" : "";
+    }
+
+    /**
+     * Write text, where only the part which still fits is written if the length budget is exceeded
+     */
+    private void text(String s) throws IOException {
+      int remaining = maxLength - length;
+
+      if (s.length() > remaining) {
+        out.append(s, 0, Math.max(0, remaining));
+        length = maxLength;
+        throw BudgetExceededException.INSTANCE;
+      }
+
+      out.append(s);
+      length += s.length();
+    }
+
+    /**
+     * Write a single character of text
+     */
+    private void text(char c) throws IOException {
+      if (length >= maxLength)
+        throw BudgetExceededException.INSTANCE;
+
+      out.append(c);
+      length++;
+    }
+
+    /**
+     * Write an integer, which is appended without allocations when writing into a builder
+     */
+    private void number(long number) throws IOException {
+      if (out instanceof StringBuilder) {
+        StringBuilder sb = (StringBuilder) out;
+        int before = sb.length();
+        sb.append(number);
+        commitAppended(sb, before);
+        return;
+      }
+
+      text(String.valueOf(number));
+    }
+
+    /**
+     * Write a decimal, which is appended without allocations when writing into a builder
+     */
+    private void decimal(double number) throws IOException {
+      if (out instanceof StringBuilder) {
+        StringBuilder sb = (StringBuilder) out;
+        int before = sb.length();
+        sb.append(number);
+        commitAppended(sb, before);
+        return;
+      }
+
+      text(String.valueOf(number));
+    }
+
+    /**
+     * Account for text which has been appended to a builder directly, which is
+     * taken back again if it exceeds the length budget, as numbers aren't cut off
+     */
+    private void commitAppended(StringBuilder sb, int before) {
+      int appended = sb.length() - before;
+
+      if (length + appended > maxLength) {
+        sb.setLength(before);
+        throw BudgetExceededException.INSTANCE;
+      }
+
+      length += appended;
+    }
+
+    /**
+     * Write a color sequence, which is never cut off
+     */
+    private void color(String color) throws IOException {
+      if (color.isEmpty())
+        return;
+
+      if (length + color.length() > maxLength)
+        throw BudgetExceededException.INSTANCE;
+
+      out.append(color);
+      length += color.length();
+    }
+
+    /**
+     * Account for the next value to be written
+     */
+    private void element() {
+      if (++elements > maxElements)
+        throw BudgetExceededException.INSTANCE;
+    }
+
+    /**
+     * Enter an object on the current path
+     * @return False if the object is already on the path, which would create a cycle
+     */
+    private boolean enter(Object o) {
+      return path.add(o);
+    }
+
+    /**
+     * Leave an object on the current path
+     */
+    private void exit(Object o) {
+      path.remove(o);
+    }
+
+    /**
+     * Mark the output as being truncated, which is written regardless of the budget
+     */
+    private void writeTruncationMarker() throws IOException {
+      out.append(reset).append(other).append("...<").append(error).append("truncated").append(other).append(">").append(reset);
+    }
+  }
+
+  /**
+   * Reflective metadata of a class, made up of all fields which are to be printed
+   */
+  private static class ClassMeta {
+
+    // Maximum number of fields an accessor can be generated for, due to the parameter limit
+    private static final int MAX_ACCESSOR_FIELDS = 250;
+
+    private final String simpleName;
+    private final Field[] fields;
+
+    // Reads all fields at once, of type (Object)Object[], null if unavailable, only generated on first use
+    private volatile @Nullable MethodHandle accessor;
+    private volatile boolean accessorGenerated;
+
+    private ClassMeta(Class<?> c) {
+      this.simpleName = c.getSimpleName();
+
+      Class<?> cl = c;
+      Field[] fields = listFields(cl);
+
+      // This class doesn't contain any fields, search for superclasses
+      while (
+        // No fields yet
+        fields.length == 0 &&
+
+        // Superclass available
+        cl.getSuperclass() != null
+      ) {
+        // Navigate into superclass and list it's fields
+        cl = cl.getSuperclass();
+        fields = listFields(cl);
+      }
+
+      // Only make them accessible once
+      this.fields = Arrays.stream(fields)
+        .filter(f -> {
+          // Also access private fields, of course
+          try {
+            f.setAccessible(true);
+            return true;
+          } catch (Exception e) {
+            // Could not access this field, skip it
+            // I am intentionally not logging exceptions here, as it may pollute fast logs
+            return false;
+          }
+        })
+        .toArray(Field[]::new);
+    }
+
+    /**
+     * Get the accessor of this class, which is generated on the first call
+     * @return Accessor of type (Object)Object[], null if it couldn't be generated
+     */
+    private @Nullable MethodHandle getAccessor() {
+      // Racing threads may both generate it, which is harmless
+      if (!accessorGenerated) {
+        accessor = generateAccessor(fields);
+        accessorGenerated = true;
+      }
+
+      return accessor;
+    }
+
+    /**
+     * Generate a method handle which reads all fields of an object into an array by
+     * combining the getters of all fields, which skips the access checks of reflection
+     * @param fields Accessible fields to read
+     * @return Accessor of type (Object)Object[], null if it couldn't be generated
+     */
+    private static @Nullable MethodHandle generateAccessor(Field[] fields) {
+      if (fields.length == 0 || fields.length > MAX_ACCESSOR_FIELDS)
+        return null;
+
+      try {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodType getterType = MethodType.methodType(Object.class, Object.class);
+        MethodHandle[] getters = new MethodHandle[fields.length];
+
+        // Fields are already accessible, so their getters don't need any private lookup
+        for (int i = 0; i < fields.length; i++)
+          getters[i] = lookup.unreflectGetter(fields[i]).asType(getterType);
+
+        // (Object...)Object[] -> (Object, Object, ...)Object[] -> (Object)Object[]
+        MethodHandle collector = MethodHandles.identity(Object[].class).asCollector(Object[].class, fields.length);
+        MethodHandle filtered = MethodHandles.filterArguments(collector, 0, getters);
+
+        return MethodHandles.permuteArguments(
+          filtered,
+          MethodType.methodType(Object[].class, Object.class),
+          new int[fields.length]
+        );
+      } catch (Exception e) {
+        return null;
+      }
+    }
+
+    /**
+     * List all fields that are to be printed from a class
+     * @param c Target class
+     * @return Fields to print
+     */
+    private static Field[] listFields(Class<?> c) {
+      return Arrays.stream(c.getDeclaredFields())
+        .filter(f -> !Modifier.isStatic(f.getModifiers()))
+        .toArray(Field[]::new);
+    }
   }
 }
@@ -0,0 +1,35 @@
+package me.blvckbytes.bblibutil.logger;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Lists all available strategies of how to deal with new log entries
+  while an asynchronous logger's queue is at capacity.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public enum OverflowPolicy {
+
+  // Wait until there's room for the new entry
+  BLOCK,
+
+  // Discard the oldest queued entry to make room for the new entry
+  DROP_OLDEST,
+
+  // Discard new debug entries, wait until there's room for all other levels
+  DROP_DEBUG
+  ;
+
+}
@@ -0,0 +1,47 @@
+package me.blvckbytes.bblibutil.logger;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Options of the object stringifier, which decide about coloring as well as
+  the budgets of the output, after which it's truncated.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Getter
+@AllArgsConstructor
+public class StringifyOptions {
+
+  // Colored output within the default budgets
+  public static final StringifyOptions DEFAULT = new StringifyOptions(true, 16 * 1024, 2048, 64);
+
+  // Colorless output within the default budgets, meant for files
+  public static final StringifyOptions PLAIN = new StringifyOptions(false, 16 * 1024, 2048, 64);
+
+  // Whether to include color sequences
+  private final boolean colored;
+
+  // Maximum number of characters to write, excluding the truncation marker
+  private final int maxLength;
+
+  // Maximum number of values (fields and elements) to write
+  private final int maxElements;
+
+  // Maximum number of elements to write per container, where all others are only counted
+  private final int maxContainerElements;
+}
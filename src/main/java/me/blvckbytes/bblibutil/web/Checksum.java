@@ -0,0 +1,43 @@
+package me.blvckbytes.bblibutil.web;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  An expected checksum of downloaded contents, made up of the digest
+  algorithm's name and the expected digest in hexadecimal notation.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Getter
+@AllArgsConstructor
+public class Checksum {
+
+  // Name of the digest algorithm, like SHA-256
+  private final String algorithm;
+
+  // Expected digest in hexadecimal notation, case insensitive
+  private final String hex;
+
+  public static Checksum sha256(String hex) {
+    return new Checksum("SHA-256", hex);
+  }
+
+  public static Checksum sha1(String hex) {
+    return new Checksum("SHA-1", hex);
+  }
+}
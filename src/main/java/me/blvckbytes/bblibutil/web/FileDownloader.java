@@ -0,0 +1,350 @@
+package me.blvckbytes.bblibutil.web;
+
+import me.blvckbytes.bblibdi.AutoConstruct;
+import me.blvckbytes.bblibdi.AutoInject;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Downloads response bodies straight into files, without ever holding the whole body
+  in memory. Chunks are written into a temporary file next to the target as they arrive,
+  while computing an optional checksum, and the file is atomically moved into place
+  once the download completed and it's checksum has been verified.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@AutoConstruct
+public class FileDownloader {
+
+  private final HttpEngine engine;
+  private final RequestScheduler scheduler;
+
+  public FileDownloader(
+    @AutoInject HttpEngine engine,
+    @AutoInject RequestScheduler scheduler
+  ) {
+    this.engine = engine;
+    this.scheduler = scheduler;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Download a response body into a file
+   * @param request Request to perform
+   * @param target File to write, which is replaced on success only
+   * @return Future of the target, which completes exceptionally on network or file errors
+   */
+  public CompletableFuture<Path> download(WebRequest request, Path target) {
+    return download(request, target, null, null);
+  }
+
+  /**
+   * Download a response body into a file
+   * @param request Request to perform
+   * @param target File to write, which is replaced on success only
+   * @param checksum Checksum the contents have to match, optional
+   * @param progress Listener of the download's progress, optional, which is called on
+   *                 the engine's blocking executor and thus should return quickly
+   * @return Future of the target, which completes exceptionally on network or file errors,
+   *         on statuses which don't represent success or on checksum mismatches
+   */
+  public CompletableFuture<Path> download(
+    WebRequest request,
+    Path target,
+    @Nullable Checksum checksum,
+    @Nullable IDownloadProgressListener progress
+  ) {
+    MessageDigest digest = null;
+
+    if (checksum != null) {
+      try {
+        digest = MessageDigest.getInstance(checksum.getAlgorithm());
+      } catch (NoSuchAlgorithmException e) {
+        return CompletableFuture.failedFuture(e);
+      }
+    }
+
+    MessageDigest finalDigest = digest;
+
+    // Cancelling the client's future doesn't stop the exchange, so attempts have to check
+    // whether the download has been given up on before touching the target
+    AtomicReference<CompletableFuture<Path>> outcome = new AtomicReference<>();
+    BooleanSupplier abandoned = () -> {
+      CompletableFuture<Path> future = outcome.get();
+      return future != null && future.isDone();
+    };
+
+    // Each attempt writes a temporary file of it's own, so retries never see partial contents
+    CompletableFuture<Path> result = scheduler.submit(request, r -> engine.send(r, info -> {
+      // Don't write error pages into the file
+      if (info.statusCode() < 200 || info.statusCode() >= 300)
+        return HttpResponse.BodySubscribers.replacing(null);
+
+      // The digest is shared between attempts, so start over on each
+      if (finalDigest != null)
+        finalDigest.reset();
+
+      long total = info.headers().firstValueAsLong("Content-Length").orElse(-1);
+      return new FileBodySubscriber(target, total, checksum, finalDigest, progress, abandoned, engine.getBlockingExecutor());
+    }).thenApply(response -> {
+      if (response.body() == null)
+        throw new CompletionException(new WebStatusException(response.statusCode(), request));
+
+      return response.body();
+    }));
+
+    outcome.set(result);
+    return result;
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Writes all chunks of a body into a temporary file by gathering writes of the client's
+   * buffers, which avoids any intermediate copies, and moves it into place on completion.
+   * All file access runs on the blocking executor, one signal after the other, in order
+   * to never hold up the client's completion threads.
+   */
+  private static class FileBodySubscriber implements HttpResponse.BodySubscriber<Path> {
+
+    private final Path target;
+    private final long total;
+    private final @Nullable Checksum checksum;
+    private final @Nullable MessageDigest digest;
+    private final @Nullable IDownloadProgressListener progress;
+    private final BooleanSupplier abandoned;
+    private final CompletableFuture<Path> result;
+
+    // Signals which are waiting to be handled, in order of their arrival
+    private final Executor executor;
+    private final Queue<Runnable> tasks;
+    private final AtomicInteger pendingTasks;
+
+    private @Nullable Flow.Subscription subscription;
+    private @Nullable Path temp;
+    private @Nullable FileChannel channel;
+    private long received;
+
+    private FileBodySubscriber(
+      Path target,
+      long total,
+      @Nullable Checksum checksum,
+      @Nullable MessageDigest digest,
+      @Nullable IDownloadProgressListener progress,
+      BooleanSupplier abandoned,
+      Executor executor
+    ) {
+      this.target = target;
+      this.total = total;
+      this.checksum = checksum;
+      this.digest = digest;
+      this.progress = progress;
+      this.abandoned = abandoned;
+      this.result = new CompletableFuture<>();
+      this.executor = executor;
+      this.tasks = new ConcurrentLinkedQueue<>();
+      this.pendingTasks = new AtomicInteger();
+    }
+
+    @Override
+    public CompletionStage<Path> getBody() {
+      return result;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+      runSerially(this::open);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> items) {
+      runSerially(() -> write(items));
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      runSerially(() -> fail(throwable));
+    }
+
+    @Override
+    public void onComplete() {
+      runSerially(this::complete);
+    }
+
+    /**
+     * Run a task on the executor after all previously submitted tasks have completed
+     * @param task Task to run
+     */
+    private void runSerially(Runnable task) {
+      tasks.add(task);
+
+      // Already being drained
+      if (pendingTasks.getAndIncrement() != 0)
+        return;
+
+      try {
+        executor.execute(() -> {
+          do {
+            Runnable next = tasks.poll();
+
+            // Signals after the outcome has been decided are of no interest anymore
+            if (next != null && !result.isDone())
+              next.run();
+          } while (pendingTasks.decrementAndGet() != 0);
+        });
+      } catch (RejectedExecutionException e) {
+        subscription.cancel();
+        fail(e);
+      }
+    }
+
+    /**
+     * Create the temporary file and request the first chunk
+     */
+    private void open() {
+      try {
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+
+        // Unique per attempt, so that overlapping attempts on the same target never share a file
+        temp = Files.createTempFile(parent, target.getFileName() + ".", ".part");
+        channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+      } catch (IOException e) {
+        subscription.cancel();
+        fail(e);
+        return;
+      }
+
+      subscription.request(1);
+    }
+
+    /**
+     * Write a chunk into the temporary file and request the next one
+     * @param items Buffers of the chunk
+     */
+    private void write(List<ByteBuffer> items) {
+      try {
+        ByteBuffer[] buffers = items.toArray(new ByteBuffer[0]);
+        long length = 0;
+
+        for (ByteBuffer buffer : buffers) {
+          // Digest a view of the buffer, as it's position is needed for writing
+          if (digest != null)
+            digest.update(buffer.duplicate());
+
+          length += buffer.remaining();
+        }
+
+        for (long written = 0; written < length;)
+          written += channel.write(buffers);
+
+        received += length;
+
+        if (progress != null)
+          progress.onProgress(received, total);
+
+        subscription.request(1);
+      } catch (Exception e) {
+        subscription.cancel();
+        fail(e);
+      }
+    }
+
+    /**
+     * Verify the written file and move it into place
+     */
+    private void complete() {
+      try {
+        channel.force(false);
+        channel.close();
+
+        if (checksum != null && digest != null) {
+          String actual = toHex(digest.digest());
+
+          if (!actual.equalsIgnoreCase(checksum.getHex()))
+            throw new IOException("Checksum mismatch for " + target + ", expected " + checksum.getHex() + " but got " + actual);
+        }
+
+        // The caller has already been told about the outcome, like a cancellation or an exceeded deadline
+        if (abandoned.getAsBoolean())
+          throw new CancellationException("The download of " + target + " has been abandoned");
+
+        moveIntoPlace();
+        result.complete(target);
+      } catch (Exception e) {
+        fail(e);
+      }
+    }
+
+    /**
+     * Move the completed temporary file onto the target, atomically if supported
+     */
+    private void moveIntoPlace() throws IOException {
+      try {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+
+    /**
+     * Fail the download, which leaves the target untouched and removes the temporary file
+     * @param error Cause of the failure
+     */
+    private void fail(Throwable error) {
+      try {
+        if (channel != null)
+          channel.close();
+
+        if (temp != null)
+          Files.deleteIfExists(temp);
+      } catch (IOException e) {
+        error.addSuppressed(e);
+      }
+
+      result.completeExceptionally(error);
+    }
+
+    private static String toHex(byte[] bytes) {
+      StringBuilder sb = new StringBuilder(bytes.length * 2);
+
+      for (byte b : bytes)
+        sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+
+      return sb.toString();
+    }
+  }
+}
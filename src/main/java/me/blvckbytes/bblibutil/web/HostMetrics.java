@@ -0,0 +1,184 @@
+package me.blvckbytes.bblibutil.web;
+
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Metrics of all web requests towards a single host, where a request may consist of
+  multiple attempts due to retries, each attempt being a single exchange with the remote.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class HostMetrics {
+
+  @Getter
+  private final String host;
+
+  // Time spent waiting for capacity within the scheduler, per attempt
+  @Getter
+  private final LatencyHistogram queueWait;
+
+  // Time from sending until the final response's headers arrived, per attempt, which
+  // includes every hop of followed redirects, as the client follows them internally
+  @Getter
+  private final LatencyHistogram timeToFirstByte;
+
+  // Time from sending until the response completed, per attempt, which is once it's
+  // body has been received, unless the body is consumed as a stream
+  @Getter
+  private final LatencyHistogram attemptTotal;
+
+  // Time from submitting until completion, including queueing and all retries
+  @Getter
+  private final LatencyHistogram requestTotal;
+
+  final AtomicLong attempts, failures, retries, rejections, deadlinesExceeded;
+  final AtomicLong bytesSent, bytesReceived;
+
+  // Number of responses by their status
+  private final Map<Integer, LongAdder> statuses;
+
+  HostMetrics(String host) {
+    this.host = host;
+    this.queueWait = new LatencyHistogram();
+    this.timeToFirstByte = new LatencyHistogram();
+    this.attemptTotal = new LatencyHistogram();
+    this.requestTotal = new LatencyHistogram();
+    this.attempts = new AtomicLong();
+    this.failures = new AtomicLong();
+    this.retries = new AtomicLong();
+    this.rejections = new AtomicLong();
+    this.deadlinesExceeded = new AtomicLong();
+    this.bytesSent = new AtomicLong();
+    this.bytesReceived = new AtomicLong();
+    this.statuses = new ConcurrentHashMap<>();
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Get the number of attempts which have been sent
+   */
+  public long getAttempts() {
+    return attempts.get();
+  }
+
+  /**
+   * Get the number of attempts which failed before a response's headers arrived, like on
+   * network errors or timeouts. Failures while receiving a body are not counted.
+   */
+  public long getFailures() {
+    return failures.get();
+  }
+
+  /**
+   * Get the number of attempts which have been retries of previous attempts
+   */
+  public long getRetries() {
+    return retries.get();
+  }
+
+  /**
+   * Get the number of requests which have been rejected due to a full queue
+   */
+  public long getRejections() {
+    return rejections.get();
+  }
+
+  /**
+   * Get the number of requests which didn't complete within their deadline
+   */
+  public long getDeadlinesExceeded() {
+    return deadlinesExceeded.get();
+  }
+
+  /**
+   * Get the number of request body bytes which have been sent
+   */
+  public long getBytesSent() {
+    return bytesSent.get();
+  }
+
+  /**
+   * Get the number of response body bytes which have been received
+   */
+  public long getBytesReceived() {
+    return bytesReceived.get();
+  }
+
+  /**
+   * Get the number of responses by their status, sorted by status
+   */
+  public Map<Integer, Long> getStatusCounts() {
+    Map<Integer, Long> res = new TreeMap<>();
+
+    for (Map.Entry<Integer, LongAdder> entry : statuses.entrySet())
+      res.put(entry.getKey(), entry.getValue().sum());
+
+    return res;
+  }
+
+  /**
+   * Reset all metrics
+   */
+  public void reset() {
+    queueWait.reset();
+    timeToFirstByte.reset();
+    attemptTotal.reset();
+    requestTotal.reset();
+    attempts.set(0);
+    failures.set(0);
+    retries.set(0);
+    rejections.set(0);
+    deadlinesExceeded.set(0);
+    bytesSent.set(0);
+    bytesReceived.set(0);
+    statuses.clear();
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Record a response's status
+   * @param status Status of the response
+   */
+  void recordStatus(int status) {
+    statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+  }
+
+  @Override
+  public String toString() {
+    return host + ":" +
+      "\n  attempts=" + attempts + " failures=" + failures + " retries=" + retries +
+      " rejections=" + rejections + " deadlinesExceeded=" + deadlinesExceeded +
+      "\n  bytesSent=" + bytesSent + " bytesReceived=" + bytesReceived +
+      "\n  statuses=" + getStatusCounts() +
+      "\n  queueWait: " + queueWait +
+      "\n  timeToFirstByte: " + timeToFirstByte +
+      "\n  attemptTotal: " + attemptTotal +
+      "\n  requestTotal: " + requestTotal;
+  }
+}
@@ -0,0 +1,263 @@
+package me.blvckbytes.bblibutil.web;
+
+import me.blvckbytes.bblibdi.AutoConstruct;
+import me.blvckbytes.bblibdi.AutoInject;
+import me.blvckbytes.bblibdi.IAutoConstructed;
+import me.blvckbytes.bblibutil.APlugin;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Performs web requests without blocking any threads while waiting for the remote,
+  based on a shared client which reuses connections and prefers HTTP/2. Responses
+  are completed on the engine's own small pool of daemon threads, which is shut down
+  alongside all outstanding requests when the plugin is being disabled.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@AutoConstruct
+public class HttpEngine implements IAutoConstructed {
+
+  // Default maximum time to wait for a connection to be established
+  public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+  // Default maximum time to wait for a response's headers
+  public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  // Number of threads to complete responses on
+  private static final int WORKER_THREADS = 4;
+
+  // Maximum number of blocking tasks waiting for a free thread before new ones are rejected
+  private static final int BLOCKING_QUEUE_CAPACITY = 256;
+
+  private final ExecutorService executor;
+
+  // Runs work which may block, like reading streamed bodies or accessing files
+  private final ExecutorService blockingExecutor;
+
+  private final WebRequestMetrics metrics;
+
+  // Requests which have been sent but not yet completed
+  private final Set<CompletableFuture<?>> inFlight;
+
+  private volatile HttpClient client;
+  private volatile Duration requestTimeout;
+
+  public HttpEngine(
+    @AutoInject APlugin plugin,
+    @AutoInject WebRequestMetrics metrics
+  ) {
+    this.metrics = metrics;
+
+    AtomicInteger threadId = new AtomicInteger();
+
+    this.executor = Executors.newFixedThreadPool(WORKER_THREADS, r -> {
+      Thread t = new Thread(r, plugin.getName() + " HTTP #" + threadId.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    });
+
+    // Bounded on both ends, so that a burst of slow bodies can't spawn a thread each
+    this.blockingExecutor = new ThreadPoolExecutor(
+      WORKER_THREADS, WORKER_THREADS, 0L, TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(BLOCKING_QUEUE_CAPACITY),
+      r -> {
+        Thread t = new Thread(r, plugin.getName() + " HTTP Blocking #" + threadId.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+      }
+    );
+
+    this.client = buildClient(DEFAULT_CONNECT_TIMEOUT);
+    this.inFlight = ConcurrentHashMap.newKeySet();
+    this.requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Send a request and read it's body as text, using the charset of it's content type
+   * @param request Request to send
+   * @return Future of the response, which completes exceptionally on network errors or timeouts
+   */
+  public CompletableFuture<WebResponse> send(WebRequest request) {
+    return send(request, HttpResponse.BodyHandlers.ofString())
+      .thenApply(response -> new WebResponse(response.statusCode(), response.headers().map(), response.body()));
+  }
+
+  /**
+   * Send a request and handle it's body by a custom handler
+   * @param request Request to send
+   * @param bodyHandler Handler of the response's body
+   * @return Future of the response, which completes exceptionally on network errors or timeouts
+   */
+  public <T> CompletableFuture<HttpResponse<T>> send(WebRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+    if (executor.isShutdown())
+      return CompletableFuture.failedFuture(new CancellationException("The HTTP engine has been shut down"));
+
+    HostMetrics hostMetrics = metrics.of(request.getUri());
+    hostMetrics.attempts.incrementAndGet();
+
+    if (request.getBody() != null)
+      hostMetrics.bytesSent.addAndGet(request.getBody().length);
+
+    long start = System.nanoTime();
+    AtomicBoolean responded = new AtomicBoolean();
+
+    // The handler is invoked as soon as the final response's headers arrived, after all redirects
+    CompletableFuture<HttpResponse<T>> future = client.sendAsync(request.toHttpRequest(requestTimeout), info -> {
+      responded.set(true);
+      hostMetrics.getTimeToFirstByte().record(System.nanoTime() - start);
+      hostMetrics.recordStatus(info.statusCode());
+      return new CountingBodySubscriber<>(bodyHandler.apply(info), hostMetrics);
+    });
+
+    inFlight.add(future);
+    future.whenComplete((response, error) -> {
+      inFlight.remove(future);
+      hostMetrics.getAttemptTotal().record(System.nanoTime() - start);
+
+      // Only count attempts which never got a response, not failures of consuming it's body
+      if (error != null && !responded.get())
+        hostMetrics.failures.incrementAndGet();
+    });
+
+    return future;
+  }
+
+  /**
+   * Set the default maximum time to wait for a response's headers,
+   * which applies to all requests which don't specify their own timeout
+   * @param timeout Timeout to apply
+   */
+  public void setRequestTimeout(Duration timeout) {
+    this.requestTimeout = timeout;
+  }
+
+  /**
+   * Set the maximum time to wait for a connection to be established. The client is
+   * rebuilt with the new timeout, so it's pooled connections are not reused, while
+   * requests which are already in flight complete on the previous client.
+   * @param timeout Timeout to apply
+   */
+  public void setConnectTimeout(Duration timeout) {
+    this.client = buildClient(timeout);
+  }
+
+  /**
+   * Get the executor which responses are completed on
+   */
+  public Executor getExecutor() {
+    return executor;
+  }
+
+  /**
+   * Get the executor for work which may block, like reading streamed bodies. Such work
+   * must never run on the completion executor, as it would starve the client's delivery.
+   * The executor is bounded and rejects tasks once it's queue is full.
+   */
+  public Executor getBlockingExecutor() {
+    return blockingExecutor;
+  }
+
+  @Override
+  public void cleanup() {
+    executor.shutdownNow();
+    blockingExecutor.shutdownNow();
+
+    // Don't leave anyone waiting on requests which will never complete
+    for (CompletableFuture<?> future : inFlight)
+      future.cancel(true);
+
+    inFlight.clear();
+  }
+
+  @Override
+  public void initialize() {}
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Build a client which completes responses on the worker pool
+   * @param connectTimeout Maximum time to wait for a connection to be established
+   */
+  private HttpClient buildClient(Duration connectTimeout) {
+    return HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_2)
+      .followRedirects(HttpClient.Redirect.NORMAL)
+      .connectTimeout(connectTimeout)
+      .executor(executor)
+      .build();
+  }
+
+  /**
+   * Counts the bytes of a body while passing it on to the actual subscriber
+   */
+  private static class CountingBodySubscriber<T> implements HttpResponse.BodySubscriber<T> {
+
+    private final HttpResponse.BodySubscriber<T> delegate;
+    private final HostMetrics metrics;
+
+    private CountingBodySubscriber(HttpResponse.BodySubscriber<T> delegate, HostMetrics metrics) {
+      this.delegate = delegate;
+      this.metrics = metrics;
+    }
+
+    @Override
+    public CompletionStage<T> getBody() {
+      return delegate.getBody();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      delegate.onSubscribe(subscription);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> items) {
+      long length = 0;
+
+      for (ByteBuffer item : items)
+        length += item.remaining();
+
+      metrics.bytesReceived.addAndGet(length);
+      delegate.onNext(items);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      delegate.onError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+      delegate.onComplete();
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package me.blvckbytes.bblibutil.web;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Gets notified about the progress of a download whenever a chunk has been written.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@FunctionalInterface
+public interface IDownloadProgressListener {
+
+  /**
+   * Called whenever a chunk of the download has been written, on a thread of the HTTP
+   * engine's blocking executor, where the next chunk is only written after returning
+   * @param received Number of bytes written so far
+   * @param total Total number of bytes, -1 if unknown
+   */
+  void onProgress(long received, long total);
+}
@@ -0,0 +1,32 @@
+package me.blvckbytes.bblibutil.web;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Gets notified whenever the contents of a watched remote resource changed.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@FunctionalInterface
+public interface IResourceChangeListener {
+
+  /**
+   * Called whenever the watched resource has been fetched with contents differing
+   * from the previous contents, which includes the first successful fetch
+   * @param resource Resource which changed
+   * @param response Response carrying the new contents
+   */
+  void onChange(WatchedResource resource, WebResponse response);
+}
@@ -0,0 +1,135 @@
+package me.blvckbytes.bblibutil.web;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Records latencies into fixed buckets of roughly exponentially growing width, which
+  keeps recording lock-free and constant in memory while still allowing to estimate
+  percentiles. Estimates are the upper bound of the bucket the percentile falls into.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class LatencyHistogram {
+
+  // Inclusive upper bounds of all buckets in milliseconds, followed by an unbounded bucket
+  private static final long[] BOUNDS_MS = {
+    1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10_000, 30_000, 60_000
+  };
+
+  private final AtomicLongArray buckets;
+  private final AtomicLong count, sumNanos, maxNanos;
+
+  public LatencyHistogram() {
+    this.buckets = new AtomicLongArray(BOUNDS_MS.length + 1);
+    this.count = new AtomicLong();
+    this.sumNanos = new AtomicLong();
+    this.maxNanos = new AtomicLong();
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Record a latency
+   * @param nanos Latency in nanoseconds
+   */
+  public void record(long nanos) {
+    if (nanos < 0)
+      nanos = 0;
+
+    long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+
+    int bucket = 0;
+    while (bucket < BOUNDS_MS.length && millis > BOUNDS_MS[bucket])
+      bucket++;
+
+    buckets.incrementAndGet(bucket);
+    count.incrementAndGet();
+    sumNanos.addAndGet(nanos);
+    maxNanos.accumulateAndGet(nanos, Math::max);
+  }
+
+  /**
+   * Get the number of recorded latencies
+   */
+  public long getCount() {
+    return count.get();
+  }
+
+  /**
+   * Get the mean of all recorded latencies in milliseconds, zero if none have been recorded
+   */
+  public double getMeanMillis() {
+    long n = count.get();
+    return n == 0 ? 0 : sumNanos.get() / (double) n / 1_000_000D;
+  }
+
+  /**
+   * Get the highest recorded latency in milliseconds
+   */
+  public double getMaxMillis() {
+    return maxNanos.get() / 1_000_000D;
+  }
+
+  /**
+   * Estimate a percentile of all recorded latencies
+   * @param percentile Percentile within [0, 100]
+   * @return Upper bound of the percentile's bucket in milliseconds, where the unbounded
+   *         bucket reports the maximum, zero if no latencies have been recorded
+   */
+  public double getPercentileMillis(double percentile) {
+    long n = count.get();
+
+    if (n == 0)
+      return 0;
+
+    long rank = Math.max(1, (long) Math.ceil(n * Math.min(100, Math.max(0, percentile)) / 100));
+    long seen = 0;
+
+    for (int i = 0; i < BOUNDS_MS.length; i++) {
+      seen += buckets.get(i);
+
+      if (seen >= rank)
+        return Math.min(BOUNDS_MS[i], getMaxMillis());
+    }
+
+    return getMaxMillis();
+  }
+
+  /**
+   * Reset all recorded latencies
+   */
+  public void reset() {
+    for (int i = 0; i < buckets.length(); i++)
+      buckets.set(i, 0);
+
+    count.set(0);
+    sumNanos.set(0);
+    maxNanos.set(0);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+      "n=%d mean=%.1fms p50=%.0fms p90=%.0fms p99=%.0fms max=%.1fms",
+      getCount(), getMeanMillis(), getPercentileMillis(50), getPercentileMillis(90), getPercentileMillis(99), getMaxMillis()
+    );
+  }
+}
@@ -0,0 +1,276 @@
+package me.blvckbytes.bblibutil.web;
+
+import me.blvckbytes.bblibdi.AutoConstruct;
+import me.blvckbytes.bblibdi.AutoInject;
+import me.blvckbytes.bblibdi.IAutoConstructed;
+import me.blvckbytes.bblibutil.APlugin;
+import me.blvckbytes.bblibutil.WebRequestHandler;
+import me.blvckbytes.bblibutil.logger.ILogger;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Watches remote resources, like configuration or status documents, by polling them
+  periodically through the web request handler. Polls are conditional requests, carrying
+  the validators of the latest contents, and the contents are hashed in order to only
+  notify listeners about actual changes. Intervals are jittered, so that many watched
+  resources don't end up being polled in lockstep.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@AutoConstruct
+public class RemoteResourceWatcher implements IAutoConstructed {
+
+  // Shortest allowed polling interval
+  public static final Duration MIN_INTERVAL = Duration.ofSeconds(1);
+
+  // Maximum delay of the first poll, spreading out resources which are watched at once
+  private static final long INITIAL_SPREAD_MS = 5000;
+
+  // Relative deviation of each interval, in both directions
+  private static final double JITTER = 0.1;
+
+  // Maximum factor the interval is stretched by after consecutive failures
+  private static final int MAX_BACKOFF_FACTOR = 8;
+
+  private final APlugin plugin;
+  private final ILogger logger;
+  private final WebRequestHandler handler;
+
+  private final ScheduledExecutorService timer;
+  private final Set<WatchedResource> watched;
+
+  private volatile boolean shutdown;
+
+  public RemoteResourceWatcher(
+    @AutoInject APlugin plugin,
+    @AutoInject ILogger logger,
+    @AutoInject WebRequestHandler handler
+  ) {
+    this.plugin = plugin;
+    this.logger = logger;
+    this.handler = handler;
+
+    this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, plugin.getName() + " Resource Watcher");
+      t.setDaemon(true);
+      return t;
+    });
+
+    this.watched = ConcurrentHashMap.newKeySet();
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Start watching a remote resource by GET requests
+   * @param url URL of the resource
+   * @param interval Interval between polls
+   * @param synchronize Whether to notify the listener on the main thread
+   * @param listener Listener to notify about changes
+   * @return Handle of the watched resource, which may be used to stop watching
+   */
+  public WatchedResource watch(URL url, Duration interval, boolean synchronize, IResourceChangeListener listener) {
+    return watch(WebRequest.get(url), interval, synchronize, listener);
+  }
+
+  /**
+   * Start watching a remote resource
+   * @param request Request to poll the resource with, which is copied for each poll
+   * @param interval Interval between polls
+   * @param synchronize Whether to notify the listener on the main thread
+   * @param listener Listener to notify about changes, including the first successful fetch
+   * @return Handle of the watched resource, which may be used to stop watching
+   */
+  public WatchedResource watch(WebRequest request, Duration interval, boolean synchronize, IResourceChangeListener listener) {
+    if (interval.compareTo(MIN_INTERVAL) < 0)
+      throw new IllegalArgumentException("The polling interval has to be at least " + MIN_INTERVAL);
+
+    if (shutdown)
+      throw new IllegalStateException("The resource watcher has been shut down");
+
+    WatchedResource resource = new WatchedResource(request.copy(), interval, synchronize, listener);
+    watched.add(resource);
+
+    long spread = Math.min(interval.toMillis(), INITIAL_SPREAD_MS);
+    schedule(resource, ThreadLocalRandom.current().nextLong(spread));
+
+    return resource;
+  }
+
+  /**
+   * Stop watching a remote resource
+   * @param resource Resource to stop watching
+   */
+  public void unwatch(WatchedResource resource) {
+    resource.cancel();
+    watched.remove(resource);
+  }
+
+  /**
+   * Get all resources which are currently being watched, read-only
+   */
+  public Collection<WatchedResource> getWatchedResources() {
+    return Collections.unmodifiableSet(watched);
+  }
+
+  @Override
+  public void cleanup() {
+    shutdown = true;
+    timer.shutdownNow();
+
+    for (WatchedResource resource : watched)
+      resource.cancel();
+
+    watched.clear();
+  }
+
+  @Override
+  public void initialize() {}
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Schedule the next poll of a resource
+   * @param resource Resource to poll
+   * @param delayMs Delay in milliseconds
+   */
+  private void schedule(WatchedResource resource, long delayMs) {
+    if (resource.isCancelled() || shutdown)
+      return;
+
+    try {
+      resource.setNextPoll(timer.schedule(() -> poll(resource), delayMs, TimeUnit.MILLISECONDS));
+    } catch (RejectedExecutionException ignored) {
+      // Shut down in the meantime
+    }
+  }
+
+  /**
+   * Compute the delay until the next poll, which is stretched after consecutive
+   * failures in order to not hammer a remote which is having trouble
+   * @param resource Resource to compute the delay for
+   */
+  private long nextDelay(WatchedResource resource) {
+    long base = resource.getInterval().toMillis() * Math.min(1L << Math.min(resource.getConsecutiveFailures(), 30), MAX_BACKOFF_FACTOR);
+    return (long) (base * (1 - JITTER + ThreadLocalRandom.current().nextDouble() * JITTER * 2));
+  }
+
+  /**
+   * Poll a resource and notify it's listener if the contents changed, after which the
+   * next poll is scheduled, so that polls of the same resource never overlap
+   * @param resource Resource to poll
+   */
+  private void poll(WatchedResource resource) {
+    if (resource.isCancelled()) {
+      watched.remove(resource);
+      return;
+    }
+
+    resource.recordPoll();
+
+    CompletableFuture<WebResponse> response;
+
+    try {
+      response = handler.request(resource.createPollRequest());
+    } catch (Exception e) {
+      response = CompletableFuture.failedFuture(e);
+    }
+
+    response.whenComplete((res, error) -> {
+      try {
+        if (error != null) {
+          resource.recordFailure();
+          logger.logDebugf("Polling {} failed: {}", resource.getRequest(), error);
+          return;
+        }
+
+        // Not modified since the latest contents, nothing to do
+        if (res.getStatus() == 304) {
+          resource.recordNotModified();
+          return;
+        }
+
+        if (!res.isSuccess()) {
+          resource.recordFailure();
+          logger.logDebugf("Polling {} failed with status {}", resource.getRequest(), res.getStatus());
+          return;
+        }
+
+        byte[] digest = digestOf(res.getBody());
+
+        // Same contents as before, nothing to do
+        if (digest == null || !resource.recordContents(res, digest))
+          return;
+
+        notifyListener(resource, res);
+      } finally {
+        schedule(resource, nextDelay(resource));
+      }
+    });
+  }
+
+  /**
+   * Notify the listener of a resource about changed contents, unless it has been cancelled
+   * @param resource Resource which changed
+   * @param response Response carrying the new contents
+   */
+  private void notifyListener(WatchedResource resource, WebResponse response) {
+    Runnable notifier = () -> {
+      if (resource.isCancelled())
+        return;
+
+      try {
+        resource.getListener().onChange(resource, response);
+      } catch (Exception e) {
+        logger.logError(e);
+      }
+    };
+
+    if (resource.isSynchronize()) {
+      plugin.runOnMainThread(notifier);
+      return;
+    }
+
+    notifier.run();
+  }
+
+  /**
+   * Compute the SHA-256 digest of a body
+   * @param body Body to digest
+   * @return Digest, null if the algorithm is unavailable
+   */
+  private @Nullable byte[] digestOf(String body) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      logger.logError(e);
+      return null;
+    }
+  }
+}
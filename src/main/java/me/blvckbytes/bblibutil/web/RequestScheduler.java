@@ -0,0 +1,543 @@
+package me.blvckbytes.bblibutil.web;
+
+import me.blvckbytes.bblibdi.AutoConstruct;
+import me.blvckbytes.bblibdi.AutoInject;
+import me.blvckbytes.bblibdi.IAutoConstructed;
+import me.blvckbytes.bblibutil.APlugin;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.EOFException;
+import java.net.SocketException;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Schedules web requests per remote host, where each host may only be hit by a limited
+  number of concurrent requests and at a limited rate, as enforced by a token bucket.
+  Requests which can't be started right away wait within a bounded queue, which rejects
+  new requests once full. Failed idempotent requests are retried with an exponential
+  backoff, and requests which specify a deadline have to complete within it. All outstanding
+  requests are cancelled when the plugin is being disabled.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@AutoConstruct
+public class RequestScheduler implements IAutoConstructed {
+
+  // Default limits which apply to all hosts without their own limits
+  private static final int DEFAULT_MAX_CONCURRENT = 4;
+  private static final double DEFAULT_PERMITS_PER_SECOND = 10;
+  private static final int DEFAULT_BURST = 20;
+
+  // Default maximum number of requests waiting across all hosts
+  private static final int DEFAULT_MAX_QUEUED = 512;
+
+  // Default total number of attempts per idempotent request
+  private static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+  // Delay before the first retry, doubling with each further retry up to the maximum
+  private static final long BASE_BACKOFF_MS = 250, MAX_BACKOFF_MS = 10_000;
+
+  // Runs delayed work, like retries, deadlines and waiting for tokens to refill
+  private final ScheduledExecutorService timer;
+
+  private final Map<String, HostState> hosts;
+  private final WebRequestMetrics metrics;
+
+  // Tasks which have been submitted but not yet completed
+  private final Set<Task<?>> outstanding;
+
+  // Number of tasks currently waiting in the queues of all hosts
+  private final AtomicInteger queued;
+
+  private volatile int maxQueued, maxAttempts;
+  private volatile boolean shutdown;
+
+  public RequestScheduler(
+    @AutoInject APlugin plugin,
+    @AutoInject WebRequestMetrics metrics
+  ) {
+    this.metrics = metrics;
+
+    this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, plugin.getName() + " HTTP Scheduler");
+      t.setDaemon(true);
+      return t;
+    });
+
+    this.hosts = new ConcurrentHashMap<>();
+    this.outstanding = ConcurrentHashMap.newKeySet();
+    this.queued = new AtomicInteger();
+    this.maxQueued = DEFAULT_MAX_QUEUED;
+    this.maxAttempts = DEFAULT_MAX_ATTEMPTS;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Submit a request, which is started as soon as it's host's limits allow for it
+   * @param request Request to perform
+   * @param call Starts an attempt of the request, may be invoked multiple times when retrying
+   * @return Future of the call's result, which completes exceptionally if the queue is full
+   *         (RejectedExecutionException), the request's deadline passed (TimeoutException) or all attempts failed.
+   *         Cancelling it cancels the request, no matter whether it's queued or running.
+   */
+  public <T> CompletableFuture<T> submit(WebRequest request, Function<WebRequest, CompletableFuture<T>> call) {
+    if (shutdown)
+      return CompletableFuture.failedFuture(new CancellationException("The request scheduler has been shut down"));
+
+    HostMetrics hostMetrics = metrics.of(request.getUri());
+
+    if (queued.incrementAndGet() > maxQueued) {
+      queued.decrementAndGet();
+      hostMetrics.rejections.incrementAndGet();
+      return CompletableFuture.failedFuture(new RejectedExecutionException("Too many queued requests, rejected " + request));
+    }
+
+    Task<T> task = new Task<>(request, call, hostState(request), hostMetrics);
+    outstanding.add(task);
+
+    Duration deadline = request.getDeadline();
+
+    // Requests without a deadline, like long running downloads, may take as long as they need
+    ScheduledFuture<?> deadlineTimer = null;
+
+    if (deadline != null) {
+      task.hasDeadline = true;
+      task.deadlineNanos = System.nanoTime() + deadline.toNanos();
+
+      deadlineTimer = timer.schedule(() -> {
+        if (task.result.completeExceptionally(new TimeoutException("Deadline of " + deadline + " exceeded for " + request)))
+          hostMetrics.deadlinesExceeded.incrementAndGet();
+      }, deadline.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    ScheduledFuture<?> finalDeadlineTimer = deadlineTimer;
+
+    task.result.whenComplete((result, error) -> {
+      outstanding.remove(task);
+
+      if (finalDeadlineTimer != null)
+        finalDeadlineTimer.cancel(false);
+      hostMetrics.getRequestTotal().record(System.nanoTime() - task.submittedAt);
+
+      // Abort the running attempt if the task has been cancelled or timed out
+      CompletableFuture<?> attempt = task.attempt;
+      if (error != null && attempt != null)
+        attempt.cancel(true);
+    });
+
+    enqueue(task);
+    return task.result;
+  }
+
+  /**
+   * Set the limits of a specific host
+   * @param host Name of the host, as found within request URIs
+   * @param maxConcurrent Maximum number of requests running at the same time
+   * @param permitsPerSecond Number of requests which may be started per second on average
+   * @param burst Number of requests which may be started at once after being idle
+   */
+  public void setHostLimits(String host, int maxConcurrent, double permitsPerSecond, int burst) {
+    if (maxConcurrent <= 0 || permitsPerSecond <= 0 || burst <= 0)
+      throw new IllegalArgumentException("All limits have to be positive");
+
+    HostState state = hosts.computeIfAbsent(host.toLowerCase(), HostState::new);
+
+    synchronized (state) {
+      state.maxConcurrent = maxConcurrent;
+      state.permitsPerSecond = permitsPerSecond;
+      state.burst = burst;
+      state.tokens = Math.min(state.tokens, burst);
+    }
+
+    dispatch(state);
+  }
+
+  /**
+   * Set the maximum number of requests waiting across all hosts, after which new requests are rejected
+   * @param maxQueued Maximum number of waiting requests
+   */
+  public void setMaxQueued(int maxQueued) {
+    this.maxQueued = maxQueued;
+  }
+
+  /**
+   * Set the total number of attempts per idempotent request, where one means no retries
+   * @param maxAttempts Maximum number of attempts
+   */
+  public void setMaxAttempts(int maxAttempts) {
+    this.maxAttempts = Math.max(1, maxAttempts);
+  }
+
+  /**
+   * Get the number of requests currently waiting to be started
+   */
+  public int getQueuedCount() {
+    return queued.get();
+  }
+
+  /**
+   * Get the number of requests which have been submitted but not yet completed
+   */
+  public int getOutstandingCount() {
+    return outstanding.size();
+  }
+
+  @Override
+  public void cleanup() {
+    shutdown = true;
+    timer.shutdownNow();
+
+    for (HostState state : hosts.values()) {
+      synchronized (state) {
+        state.queue.clear();
+      }
+    }
+
+    queued.set(0);
+
+    // Don't leave anyone waiting on requests which will never complete
+    for (Task<?> task : outstanding)
+      task.result.cancel(true);
+
+    outstanding.clear();
+  }
+
+  @Override
+  public void initialize() {}
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Get the state of a request's host, which is created with default limits on first use
+   * @param request Target request
+   */
+  private HostState hostState(WebRequest request) {
+    String host = request.getUri().getHost();
+    return hosts.computeIfAbsent(host == null ? "" : host.toLowerCase(), HostState::new);
+  }
+
+  /**
+   * Append a task to the queue of it's host and start as many tasks as the limits allow
+   * @param task Task to enqueue, which has already been counted as queued
+   */
+  private void enqueue(Task<?> task) {
+    task.enqueuedAt = System.nanoTime();
+
+    synchronized (task.host) {
+      task.host.queue.add(task);
+    }
+
+    dispatch(task.host);
+  }
+
+  /**
+   * Start queued tasks of a host while there's capacity and tokens left, and schedule
+   * another dispatch for when the next token becomes available if tasks remain waiting
+   * @param state State of the host to dispatch
+   */
+  private void dispatch(HostState state) {
+    List<Task<?>> toStart = null;
+
+    synchronized (state) {
+      while (!state.queue.isEmpty() && state.running < state.maxConcurrent) {
+        state.refill();
+
+        if (state.tokens < 1) {
+          if (!state.wakeupScheduled && !shutdown) {
+            state.wakeupScheduled = true;
+
+            long delayNanos = (long) ((1 - state.tokens) / state.permitsPerSecond * 1_000_000_000L);
+
+            timer.schedule(() -> {
+              synchronized (state) {
+                state.wakeupScheduled = false;
+              }
+
+              dispatch(state);
+            }, Math.max(1, delayNanos), TimeUnit.NANOSECONDS);
+          }
+
+          break;
+        }
+
+        Task<?> task = state.queue.poll();
+        queued.decrementAndGet();
+
+        // Cancelled or timed out while waiting, don't spend any capacity on it
+        if (task.result.isDone())
+          continue;
+
+        state.tokens -= 1;
+        state.running++;
+
+        if (toStart == null)
+          toStart = new ArrayList<>();
+
+        toStart.add(task);
+      }
+    }
+
+    // Start outside of the lock, as calls might complete synchronously
+    if (toStart != null) {
+      for (Task<?> task : toStart)
+        start(task);
+    }
+  }
+
+  /**
+   * Start the next attempt of a task, which has already been granted capacity
+   * @param task Task to start
+   */
+  private <T> void start(Task<T> task) {
+    task.metrics.getQueueWait().record(System.nanoTime() - task.enqueuedAt);
+
+    if (task.attempts > 0)
+      task.metrics.retries.incrementAndGet();
+
+    task.attempts++;
+
+    CompletableFuture<T> attempt;
+
+    try {
+      attempt = task.call.apply(task.request);
+    } catch (Exception e) {
+      attempt = CompletableFuture.failedFuture(e);
+    }
+
+    task.attempt = attempt;
+
+    // Cancelled in between being polled and started
+    if (task.result.isDone())
+      attempt.cancel(true);
+
+    attempt.whenComplete((result, error) -> onAttemptCompleted(task, result, error));
+  }
+
+  /**
+   * Handle the completion of an attempt by either retrying or completing the task,
+   * which frees up the capacity of it's host in both cases
+   * @param task Task of the attempt
+   * @param result Result of the attempt, if it succeeded
+   * @param error Error of the attempt, if it failed
+   */
+  private <T> void onAttemptCompleted(Task<T> task, @Nullable T result, @Nullable Throwable error) {
+    synchronized (task.host) {
+      task.host.running--;
+    }
+
+    if (!task.result.isDone()) {
+      long delayMs = retryDelay(task, result, error);
+
+      // Only retry if the next attempt can still start before the deadline
+      if (delayMs >= 0 && (!task.hasDeadline || System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs) - task.deadlineNanos < 0) && !shutdown) {
+        queued.incrementAndGet();
+
+        try {
+          timer.schedule(() -> enqueue(task), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+          queued.decrementAndGet();
+          task.result.cancel(true);
+        }
+      }
+
+      else if (error != null)
+        task.result.completeExceptionally(unwrap(error));
+
+      else
+        task.result.complete(result);
+    }
+
+    dispatch(task.host);
+  }
+
+  /**
+   * Decide whether an attempt should be retried and after which delay
+   * @param task Task of the attempt
+   * @param result Result of the attempt, if it succeeded
+   * @param error Error of the attempt, if it failed
+   * @return Delay in milliseconds, negative if it shouldn't be retried
+   */
+  private long retryDelay(Task<?> task, @Nullable Object result, @Nullable Throwable error) {
+    if (!task.request.isIdempotent() || task.attempts >= maxAttempts)
+      return -1;
+
+    long retryAfterMs = -1;
+
+    if (error != null) {
+      Throwable cause = unwrap(error);
+
+      if (cause instanceof WebStatusException) {
+        if (!isRetryableStatus(((WebStatusException) cause).getStatus()))
+          return -1;
+      }
+
+      // Local errors, like writing files or verifying contents, would just fail again
+      else if (!isTransportFailure(cause))
+        return -1;
+    }
+
+    else if (result instanceof WebResponse) {
+      WebResponse response = (WebResponse) result;
+
+      if (!isRetryableStatus(response.getStatus()))
+        return -1;
+
+      retryAfterMs = parseRetryAfter(response.getHeader("Retry-After"));
+    }
+
+    else if (result instanceof HttpResponse) {
+      if (!isRetryableStatus(((HttpResponse<?>) result).statusCode()))
+        return -1;
+    }
+
+    else
+      return -1;
+
+    // Honor the remote's wish, as long as it's within reason
+    if (retryAfterMs >= 0)
+      return Math.min(retryAfterMs, MAX_BACKOFF_MS);
+
+    long backoff = Math.min(MAX_BACKOFF_MS, BASE_BACKOFF_MS << Math.min(task.attempts - 1, 20));
+
+    // Spread out retries of many clients which failed at the same time
+    return ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1);
+  }
+
+  /**
+   * Checks whether an error has been caused by the network, as opposed to local errors,
+   * cancellations, deadlines or programming errors, which are all final
+   * @param error Error to check
+   */
+  private boolean isTransportFailure(Throwable error) {
+    // The client wraps the actual network error, like an EOF, within it's own exceptions
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof HttpTimeoutException || cause instanceof SocketException || cause instanceof EOFException)
+        return true;
+
+      if (cause.getCause() == cause)
+        break;
+    }
+
+    return false;
+  }
+
+  /**
+   * Checks whether a status represents a temporary condition on the remote
+   * @param status Status to check
+   */
+  private boolean isRetryableStatus(int status) {
+    return status == 429 || status == 502 || status == 503 || status == 504;
+  }
+
+  /**
+   * Parse the value of a Retry-After header, which is only supported in it's delay-seconds form
+   * @param value Value of the header
+   * @return Delay in milliseconds, negative if absent or malformed
+   */
+  private long parseRetryAfter(@Nullable String value) {
+    if (value == null)
+      return -1;
+
+    try {
+      return Math.max(0, Long.parseLong(value.trim())) * 1000;
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Unwrap the actual cause of a failed future
+   * @param error Error to unwrap
+   */
+  private Throwable unwrap(Throwable error) {
+    while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null)
+      error = error.getCause();
+
+    return error;
+  }
+
+  /**
+   * Limits and current usage of a single host
+   */
+  private static class HostState {
+
+    private final ArrayDeque<Task<?>> queue;
+
+    private int maxConcurrent, burst, running;
+    private double permitsPerSecond, tokens;
+    private long lastRefill;
+    private boolean wakeupScheduled;
+
+    private HostState(String host) {
+      this.queue = new ArrayDeque<>();
+      this.maxConcurrent = DEFAULT_MAX_CONCURRENT;
+      this.permitsPerSecond = DEFAULT_PERMITS_PER_SECOND;
+      this.burst = DEFAULT_BURST;
+      this.tokens = DEFAULT_BURST;
+      this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Add all tokens which accumulated since the last refill, up to the burst size
+     */
+    private void refill() {
+      long now = System.nanoTime();
+      tokens = Math.min(burst, tokens + (now - lastRefill) / 1_000_000_000D * permitsPerSecond);
+      lastRefill = now;
+    }
+  }
+
+  /**
+   * A submitted request and it's progress
+   */
+  private static class Task<T> {
+
+    private final WebRequest request;
+    private final Function<WebRequest, CompletableFuture<T>> call;
+    private final HostState host;
+    private final HostMetrics metrics;
+    private final CompletableFuture<T> result;
+    private final long submittedAt;
+
+    private volatile @Nullable CompletableFuture<T> attempt;
+    private volatile int attempts;
+    private volatile long enqueuedAt;
+    // Point in time of System#nanoTime, only set if the request has a deadline
+    private boolean hasDeadline;
+    private long deadlineNanos;
+
+    private Task(WebRequest request, Function<WebRequest, CompletableFuture<T>> call, HostState host, HostMetrics metrics) {
+      this.request = request;
+      this.call = call;
+      this.host = host;
+      this.metrics = metrics;
+      this.result = new CompletableFuture<>();
+      this.submittedAt = System.nanoTime();
+    }
+  }
+}
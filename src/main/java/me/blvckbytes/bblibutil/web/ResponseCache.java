@@ -0,0 +1,551 @@
+package me.blvckbytes.bblibutil.web;
+
+import com.google.gson.Gson;
+import me.blvckbytes.bblibdi.AutoConstruct;
+import me.blvckbytes.bblibdi.AutoInject;
+import me.blvckbytes.bblibutil.logger.ILogger;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Caches responses of GET requests in memory (with optional persistence on disk) while
+  honoring their Cache-Control directives. Fresh responses are served without touching
+  the network, stale responses with validators (ETag, Last-Modified) are revalidated by
+  a conditional request, where a 304 response is answered from the cache. Responses which
+  vary by request headers are only served to requests carrying the same values.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@AutoConstruct
+public class ResponseCache {
+
+  // Default maximum number of responses to keep in memory
+  public static final int DEFAULT_MAX_ENTRIES = 256;
+
+  // Bodies longer than this are not cached
+  private static final int MAX_BODY_LENGTH = 1024 * 1024;
+
+  private static final Gson GSON = new Gson();
+
+  // Headers which a 304 response may update on the cached response
+  private static final String[] REVALIDATED_HEADERS = { "Date", "ETag", "Cache-Control", "Expires", "Last-Modified" };
+
+  private final HttpEngine engine;
+  private final ILogger logger;
+
+  // Responses by their cache key, in least recently used order
+  private final LinkedHashMap<String, CachedResponse> entries;
+
+  private volatile int maxEntries;
+  private volatile @Nullable Path diskDirectory;
+
+  public ResponseCache(
+    @AutoInject HttpEngine engine,
+    @AutoInject ILogger logger
+  ) {
+    this.engine = engine;
+    this.logger = logger;
+    this.entries = new LinkedHashMap<>(16, .75F, true);
+    this.maxEntries = DEFAULT_MAX_ENTRIES;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Execute a request through the cache, where non-cacheable requests are passed through
+   * @param request Request to execute
+   * @param transport Performs the actual request over the network
+   * @return Future of the response, either from the cache or from the network
+   */
+  public CompletableFuture<WebResponse> execute(
+    WebRequest request,
+    Function<WebRequest, CompletableFuture<WebResponse>> transport
+  ) {
+    if (!isCacheable(request))
+      return transport.apply(request);
+
+    String key = keyOf(request);
+    boolean bypass = hasDirective(request.getHeaders().get("Cache-Control"), "no-cache");
+
+    CachedResponse cached = getFromMemory(key);
+
+    // Not in memory, try to load it from disk off the calling thread
+    if (cached == null && diskDirectory != null) {
+      try {
+        return CompletableFuture
+          .supplyAsync(() -> loadFromDisk(key), engine.getBlockingExecutor())
+          .thenCompose(loaded -> {
+            if (loaded != null)
+              putIntoMemory(key, loaded);
+
+            return executeWith(request, key, loaded, bypass, transport);
+          });
+      } catch (RejectedExecutionException ignored) {
+        // No capacity to load from disk right now, go to the network instead
+      }
+    }
+
+    return executeWith(request, key, cached, bypass, transport);
+  }
+
+  /**
+   * Persist all cached responses within a directory, which will also
+   * be consulted for responses which are not held in memory
+   * @param directory Directory to persist into
+   */
+  public void enableDiskPersistence(Path directory) throws IOException {
+    Files.createDirectories(directory);
+    this.diskDirectory = directory;
+  }
+
+  /**
+   * Set the maximum number of responses to keep in memory
+   * @param maxEntries Maximum number of responses
+   */
+  public void setMaxEntries(int maxEntries) {
+    this.maxEntries = maxEntries;
+
+    synchronized (entries) {
+      trim();
+    }
+  }
+
+  /**
+   * Remove the cached response of a GET request to the given URI
+   * @param uri URI of the request
+   */
+  public void invalidate(URI uri) {
+    String key = "GET " + uri;
+
+    synchronized (entries) {
+      entries.remove(key);
+    }
+
+    deleteFromDisk(key);
+  }
+
+  /**
+   * Remove all responses from memory, where persisted responses are kept
+   */
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * A cached response alongside it's freshness and validators, which is also serialized to disk
+   */
+  private static class CachedResponse {
+    private int status;
+    private Map<String, List<String>> headers;
+    private String body;
+
+    // Time of storing and the duration the response is fresh for, both in milliseconds
+    private long storedAt, freshnessMs;
+
+    private @Nullable String etag, lastModified;
+
+    // Values of the request headers named by Vary, empty if absent on the request
+    private @Nullable Map<String, String> varying;
+
+    private boolean isFresh() {
+      return System.currentTimeMillis() - storedAt < freshnessMs;
+    }
+
+    private boolean hasValidators() {
+      return etag != null || lastModified != null;
+    }
+
+    private WebResponse toResponse() {
+      return new WebResponse(status, headers, body);
+    }
+
+    /**
+     * Checks whether a request carries the same values for all headers this response varies by
+     */
+    private boolean matches(WebRequest request) {
+      if (varying == null)
+        return true;
+
+      for (Map.Entry<String, String> header : varying.entrySet()) {
+        if (!request.getHeaders().getOrDefault(header.getKey(), "").equals(header.getValue()))
+          return false;
+      }
+
+      return true;
+    }
+  }
+
+  /**
+   * Execute a request with it's cached response, if any
+   */
+  private CompletableFuture<WebResponse> executeWith(
+    WebRequest request,
+    String key,
+    @Nullable CachedResponse stored,
+    boolean bypass,
+    Function<WebRequest, CompletableFuture<WebResponse>> transport
+  ) {
+    // A variant for other request headers is of no use, the response will replace it
+    CachedResponse cached = stored != null && stored.matches(request) ? stored : null;
+
+    // Still fresh, no need to ask the remote
+    if (cached != null && !bypass && cached.isFresh())
+      return CompletableFuture.completedFuture(cached.toResponse());
+
+    WebRequest actual = request;
+
+    // Ask the remote whether the cached response is still valid
+    if (cached != null && cached.hasValidators()) {
+      actual = request.copy();
+
+      if (cached.etag != null)
+        actual.header("If-None-Match", cached.etag);
+
+      if (cached.lastModified != null)
+        actual.header("If-Modified-Since", cached.lastModified);
+    }
+
+    return transport.apply(actual).thenApply(response -> {
+      // Not modified, answer from the cache while only taking over headers which describe freshness
+      if (response.getStatus() == 304 && cached != null) {
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(cached.headers);
+
+        for (String name : REVALIDATED_HEADERS) {
+          List<String> values = response.getHeaders().get(name);
+
+          if (values != null && !values.isEmpty())
+            headers.put(name, values);
+        }
+
+        CachedResponse refreshed = createEntry(request, cached.status, headers, cached.body);
+
+        if (refreshed != null)
+          store(key, refreshed);
+
+        return cached.toResponse();
+      }
+
+      if (response.getStatus() == 200 && !hasDirective(request.getHeaders().get("Cache-Control"), "no-store")) {
+        CachedResponse entry = createEntry(request, response.getStatus(), response.getHeaders(), response.getBody());
+
+        if (entry != null)
+          store(key, entry);
+
+        // The remote doesn't allow for caching anymore, drop the previous entry
+        else if (stored != null)
+          invalidate(request.getUri());
+      }
+
+      return response;
+    });
+  }
+
+  /**
+   * Create a cache entry from a response, if it may be cached
+   * @param request Request the response has been received for
+   * @return Entry to cache, null if it may not be cached
+   */
+  private @Nullable CachedResponse createEntry(WebRequest request, int status, Map<String, List<String>> headers, String body) {
+    if (body.length() > MAX_BODY_LENGTH)
+      return null;
+
+    Map<String, String> varying = null;
+
+    for (String name : String.join(",", headersNamed(headers, "Vary")).split(",")) {
+      name = name.trim();
+
+      if (name.isEmpty())
+        continue;
+
+      // Varies by something other than request headers, never matches
+      if (name.equals("*"))
+        return null;
+
+      if (varying == null)
+        varying = new HashMap<>();
+
+      varying.put(name, request.getHeaders().getOrDefault(name, ""));
+    }
+
+    CachedResponse entry = new CachedResponse();
+    entry.status = status;
+    entry.headers = new HashMap<>(headers);
+    entry.body = body;
+    entry.storedAt = System.currentTimeMillis();
+    entry.etag = firstHeader(headers, "ETag");
+    entry.lastModified = firstHeader(headers, "Last-Modified");
+    entry.varying = varying;
+
+    long freshness = computeFreshness(headers);
+
+    // Neither fresh for any time nor revalidatable, there's no use in keeping it
+    if (freshness < 0 || (freshness == 0 && !entry.hasValidators()))
+      return null;
+
+    entry.freshnessMs = freshness;
+    return entry;
+  }
+
+  /**
+   * Compute the duration a response is fresh for, based on it's Cache-Control
+   * directives or on it's Expires header, minus it's age
+   * @param headers Headers of the response
+   * @return Freshness in milliseconds, zero if it always has to be revalidated, -1 if it may not be stored
+   */
+  private long computeFreshness(Map<String, List<String>> headers) {
+    String cacheControl = String.join(",", headers.getOrDefault("Cache-Control", Collections.emptyList()));
+
+    if (hasDirective(cacheControl, "no-store"))
+      return -1;
+
+    if (hasDirective(cacheControl, "no-cache"))
+      return 0;
+
+    long age = 0;
+    String ageHeader = firstHeader(headers, "Age");
+
+    try {
+      if (ageHeader != null)
+        age = Long.parseLong(ageHeader.trim()) * 1000;
+    } catch (NumberFormatException ignored) {}
+
+    for (String directive : cacheControl.split(",")) {
+      directive = directive.trim().toLowerCase(Locale.ROOT);
+
+      if (!directive.startsWith("max-age="))
+        continue;
+
+      try {
+        return Math.max(0, Long.parseLong(directive.substring(8).replace("\"", "")) * 1000 - age);
+      } catch (NumberFormatException e) {
+        return 0;
+      }
+    }
+
+    String expires = firstHeader(headers, "Expires");
+
+    if (expires == null)
+      return 0;
+
+    try {
+      long expiresAt = ZonedDateTime.parse(expires, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+
+      // Relative to the remote's clock, if available
+      String date = firstHeader(headers, "Date");
+      long now = date == null
+        ? System.currentTimeMillis()
+        : ZonedDateTime.parse(date, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+
+      return Math.max(0, expiresAt - now - age);
+    } catch (Exception e) {
+      // Invalid dates are to be treated as already expired
+      return 0;
+    }
+  }
+
+  /**
+   * Checks whether a request may be answered from the cache, which only applies
+   * to GET requests without any credentials, as those may vary per caller
+   */
+  private boolean isCacheable(WebRequest request) {
+    if (!request.getMethod().equals("GET"))
+      return false;
+
+    return !request.getHeaders().containsKey("Authorization") && !request.getHeaders().containsKey("Cookie");
+  }
+
+  /**
+   * Checks whether a Cache-Control value contains a given directive
+   */
+  private boolean hasDirective(@Nullable String cacheControl, String directive) {
+    if (cacheControl == null)
+      return false;
+
+    for (String part : cacheControl.split(",")) {
+      if (part.trim().equalsIgnoreCase(directive))
+        return true;
+    }
+
+    return false;
+  }
+
+  private @Nullable String firstHeader(Map<String, List<String>> headers, String name) {
+    List<String> values = headersNamed(headers, name);
+    return values.isEmpty() ? null : values.get(0);
+  }
+
+  private List<String> headersNamed(Map<String, List<String>> headers, String name) {
+    List<String> values = headers.get(name);
+
+    // Headers may not be case insensitive after being loaded from disk
+    if (values == null) {
+      for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+        if (header.getKey().equalsIgnoreCase(name)) {
+          values = header.getValue();
+          break;
+        }
+      }
+    }
+
+    return values == null ? Collections.emptyList() : values;
+  }
+
+  private String keyOf(WebRequest request) {
+    return request.getMethod() + " " + request.getUri();
+  }
+
+  private @Nullable CachedResponse getFromMemory(String key) {
+    synchronized (entries) {
+      return entries.get(key);
+    }
+  }
+
+  private void putIntoMemory(String key, CachedResponse entry) {
+    synchronized (entries) {
+      entries.put(key, entry);
+      trim();
+    }
+  }
+
+  /**
+   * Evict the least recently used entries until the maximum size is respected
+   */
+  private void trim() {
+    Iterator<CachedResponse> it = entries.values().iterator();
+
+    while (entries.size() > maxEntries && it.hasNext()) {
+      it.next();
+      it.remove();
+    }
+  }
+
+  /**
+   * Store an entry into memory and persist it on disk in the background, if enabled
+   */
+  private void store(String key, CachedResponse entry) {
+    putIntoMemory(key, entry);
+
+    if (diskDirectory == null)
+      return;
+
+    try {
+      engine.getBlockingExecutor().execute(() -> writeToDisk(key, entry));
+    } catch (Exception ignored) {
+      // The engine has been shut down, skip persisting
+    }
+  }
+
+  private void writeToDisk(String key, CachedResponse entry) {
+    Path file = fileOf(key);
+
+    if (file == null)
+      return;
+
+    try {
+      Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+      try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+        GSON.toJson(entry, writer);
+      }
+
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (Exception e) {
+      logger.logError(e);
+    }
+  }
+
+  private @Nullable CachedResponse loadFromDisk(String key) {
+    Path file = fileOf(key);
+
+    if (file == null || !Files.isRegularFile(file))
+      return null;
+
+    try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      CachedResponse entry = GSON.fromJson(reader, CachedResponse.class);
+
+      // Corrupted file
+      if (entry == null || entry.body == null || entry.headers == null)
+        return null;
+
+      return entry;
+    } catch (Exception e) {
+      logger.logError(e);
+      return null;
+    }
+  }
+
+  private void deleteFromDisk(String key) {
+    Path file = fileOf(key);
+
+    if (file == null)
+      return;
+
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      logger.logError(e);
+    }
+  }
+
+  /**
+   * Get the file a key is persisted in, which is named by the key's hash
+   * @return File path, null if persistence is disabled
+   */
+  private @Nullable Path fileOf(String key) {
+    Path directory = diskDirectory;
+
+    if (directory == null)
+      return null;
+
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+      StringBuilder name = new StringBuilder();
+
+      for (byte b : hash)
+        name.append(String.format("%02x", b));
+
+      return directory.resolve(name.append(".json").toString());
+    } catch (NoSuchAlgorithmException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package me.blvckbytes.bblibutil.web;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Coalesces concurrent calls of the same key into a single execution, where all callers
+  which arrive while a call is in flight share it's result instead of starting their own.
+  Each caller receives a separate future, so that cancelling it doesn't affect the others.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class SingleFlight<K, V> {
+
+  private final Map<K, CompletableFuture<V>> inFlight;
+
+  // Number of calls which joined an already running call
+  private final AtomicLong coalesced;
+
+  public SingleFlight() {
+    this.inFlight = new ConcurrentHashMap<>();
+    this.coalesced = new AtomicLong();
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Execute a call, or join the call of the same key which is currently in flight
+   * @param key Key identifying identical calls
+   * @param call Starts the actual call, only invoked if there's no call in flight
+   * @return Future of the call's result, separate for each caller
+   */
+  public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+    CompletableFuture<V> shared = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, shared);
+
+    if (existing != null) {
+      coalesced.incrementAndGet();
+      return existing.copy();
+    }
+
+    try {
+      call.get().whenComplete((result, error) -> {
+        // Leave before completing, so that later callers start a new call
+        inFlight.remove(key, shared);
+
+        if (error != null) {
+          shared.completeExceptionally(error);
+          return;
+        }
+
+        shared.complete(result);
+      });
+    } catch (Exception e) {
+      inFlight.remove(key, shared);
+      shared.completeExceptionally(e);
+    }
+
+    return shared.copy();
+  }
+
+  /**
+   * Get the number of calls which are currently in flight
+   */
+  public int getInFlightCount() {
+    return inFlight.size();
+  }
+
+  /**
+   * Get the total number of calls which joined an already running call
+   */
+  public long getCoalescedCount() {
+    return coalesced.get();
+  }
+}
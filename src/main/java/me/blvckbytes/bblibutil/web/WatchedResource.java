@@ -0,0 +1,161 @@
+package me.blvckbytes.bblibutil.web;
+
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ScheduledFuture;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  A remote resource which is being polled periodically by the resource watcher,
+  keeping track of it's latest contents and of it's polling statistics.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class WatchedResource {
+
+  @Getter
+  private final WebRequest request;
+
+  @Getter
+  private final Duration interval;
+
+  @Getter
+  private final boolean synchronize;
+
+  @Getter
+  private final IResourceChangeListener listener;
+
+  // Timestamps in epoch milliseconds, zero if it never happened
+  @Getter
+  private volatile long lastPolledAt, lastChangedAt;
+
+  @Getter
+  private volatile long pollCount, changeCount;
+
+  // Number of polls which failed in a row
+  @Getter
+  private volatile int consecutiveFailures;
+
+  @Getter
+  private volatile boolean cancelled;
+
+  // Digest of the latest contents, null if not yet fetched successfully
+  private @Nullable byte[] digest;
+
+  // Validators of the latest contents, which make polls conditional
+  private volatile @Nullable String etag, lastModified;
+
+  // Next scheduled poll, if any
+  private volatile @Nullable ScheduledFuture<?> nextPoll;
+
+  WatchedResource(WebRequest request, Duration interval, boolean synchronize, IResourceChangeListener listener) {
+    this.request = request;
+    this.interval = interval;
+    this.synchronize = synchronize;
+    this.listener = listener;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Stop watching this resource, where a poll which is already running won't notify anymore
+   */
+  public void cancel() {
+    cancelled = true;
+
+    ScheduledFuture<?> next = nextPoll;
+    if (next != null)
+      next.cancel(false);
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Set the next scheduled poll, which is cancelled alongside this resource
+   */
+  void setNextPoll(ScheduledFuture<?> nextPoll) {
+    this.nextPoll = nextPoll;
+  }
+
+  /**
+   * Record that a poll has been started
+   */
+  void recordPoll() {
+    lastPolledAt = System.currentTimeMillis();
+    pollCount++;
+  }
+
+  /**
+   * Create the request of the next poll, which carries the validators of the latest
+   * contents, so that the remote may answer with 304 if they didn't change. This doesn't
+   * rely on the response cache, which skips requests carrying credentials.
+   */
+  WebRequest createPollRequest() {
+    WebRequest res = request.copy();
+
+    if (digest == null)
+      return res;
+
+    if (etag != null && !request.getHeaders().containsKey("If-None-Match"))
+      res.header("If-None-Match", etag);
+
+    if (lastModified != null && !request.getHeaders().containsKey("If-Modified-Since"))
+      res.header("If-Modified-Since", lastModified);
+
+    return res;
+  }
+
+  /**
+   * Record that a poll has been answered by 304, so the contents didn't change
+   */
+  void recordNotModified() {
+    consecutiveFailures = 0;
+  }
+
+  /**
+   * Record that a poll failed
+   */
+  void recordFailure() {
+    consecutiveFailures++;
+  }
+
+  /**
+   * Record the contents of a successful poll
+   * @param response Response of the poll, carrying the validators of the contents
+   * @param digest Digest of the polled contents
+   * @return True if the contents differ from the previous contents
+   */
+  boolean recordContents(WebResponse response, byte[] digest) {
+    consecutiveFailures = 0;
+    etag = response.getHeader("ETag");
+    lastModified = response.getHeader("Last-Modified");
+
+    if (Arrays.equals(digest, this.digest))
+      return false;
+
+    this.digest = digest;
+    lastChangedAt = System.currentTimeMillis();
+    changeCount++;
+    return true;
+  }
+}
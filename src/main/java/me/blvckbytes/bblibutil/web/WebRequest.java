@@ -0,0 +1,194 @@
+package me.blvckbytes.bblibutil.web;
+
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Describes a web request by it's method, target, headers and optional body.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Getter
+public class WebRequest {
+
+  private final String method;
+  private final URI uri;
+
+  // Header names are case insensitive
+  private final Map<String, String> headers;
+
+  private @Nullable byte[] body;
+
+  // Overrides the engine's default timeout, if set
+  private @Nullable Duration timeout;
+
+  // Overall time until the request has to complete, including queueing and retries, if set
+  private @Nullable Duration deadline;
+
+  /**
+   * Create a new request
+   * @param method HTTP method, like GET or POST
+   * @param uri Target of the request
+   */
+  public WebRequest(String method, URI uri) {
+    this.method = method.toUpperCase();
+    this.uri = uri;
+    this.headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+  }
+
+  /**
+   * Create a new GET request
+   * @param uri Target of the request
+   */
+  public static WebRequest get(URI uri) {
+    return new WebRequest("GET", uri);
+  }
+
+  /**
+   * Create a new GET request
+   * @param url Target of the request
+   * @throws IllegalArgumentException The URL is not a valid URI
+   */
+  public static WebRequest get(URL url) {
+    try {
+      return get(url.toURI());
+    } catch (URISyntaxException e) {
+      throw new IllegalArgumentException("Invalid URL: " + url, e);
+    }
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Set a header, replacing any previous value
+   * @param name Name of the header
+   * @param value Value of the header
+   */
+  public WebRequest header(String name, String value) {
+    headers.put(name, value);
+    return this;
+  }
+
+  /**
+   * Set the body of the request
+   * @param body Raw body bytes
+   */
+  public WebRequest body(byte[] body) {
+    this.body = body;
+    return this;
+  }
+
+  /**
+   * Set the body of the request
+   * @param body Body text, encoded as UTF-8
+   */
+  public WebRequest body(String body) {
+    return body(body.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Set the timeout of the request, which spans from sending until the response's headers arrived
+   * @param timeout Timeout to apply
+   */
+  public WebRequest timeout(Duration timeout) {
+    this.timeout = timeout;
+    return this;
+  }
+
+  /**
+   * Set the deadline of the request, which spans from submitting it until it completed,
+   * including all time spent waiting in queues and retrying
+   * @param deadline Deadline to apply
+   */
+  public WebRequest deadline(Duration deadline) {
+    this.deadline = deadline;
+    return this;
+  }
+
+  /**
+   * Checks whether this request may be repeated without causing any further effects,
+   * which makes it safe to retry
+   */
+  public boolean isIdempotent() {
+    switch (method) {
+      case "GET":
+      case "HEAD":
+      case "PUT":
+      case "DELETE":
+      case "OPTIONS":
+      case "TRACE":
+        return true;
+
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Get all headers of this request, read-only
+   */
+  public Map<String, String> getHeaders() {
+    return Collections.unmodifiableMap(headers);
+  }
+
+  /**
+   * Create a copy of this request, which can be modified independently
+   */
+  public WebRequest copy() {
+    WebRequest res = new WebRequest(method, uri);
+    res.headers.putAll(headers);
+    res.body = body;
+    res.timeout = timeout;
+    res.deadline = deadline;
+    return res;
+  }
+
+  /**
+   * Build the request of the underlying client
+   * @param defaultTimeout Timeout to use if this request has none
+   */
+  HttpRequest toHttpRequest(Duration defaultTimeout) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+      .timeout(timeout == null ? defaultTimeout : timeout)
+      .method(
+        method,
+        body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofByteArray(body)
+      );
+
+    for (Map.Entry<String, String> header : headers.entrySet())
+      builder.header(header.getKey(), header.getValue());
+
+    return builder.build();
+  }
+
+  @Override
+  public String toString() {
+    return method + " " + uri;
+  }
+}
@@ -0,0 +1,106 @@
+package me.blvckbytes.bblibutil.web;
+
+import me.blvckbytes.bblibdi.AutoConstruct;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Collects metrics of all web requests per remote host, like counters of attempts,
+  failures and statuses, transferred bytes and latency histograms of queueing, the
+  time to the first byte and the total duration. They allow to tell whether slow
+  responses are caused by the remote or by requests piling up locally.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@AutoConstruct
+public class WebRequestMetrics {
+
+  private final Map<String, HostMetrics> hosts;
+
+  public WebRequestMetrics() {
+    this.hosts = new ConcurrentHashMap<>();
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Get the metrics of a host
+   * @param host Name of the host, as found within request URIs
+   * @return Metrics, null if there haven't been any requests towards this host
+   */
+  public @Nullable HostMetrics getHost(String host) {
+    return hosts.get(host.toLowerCase());
+  }
+
+  /**
+   * Get the metrics of all hosts, sorted by host
+   */
+  public List<HostMetrics> getHosts() {
+    List<HostMetrics> res = new ArrayList<>(hosts.values());
+    res.sort(Comparator.comparing(HostMetrics::getHost));
+    return res;
+  }
+
+  /**
+   * Reset the metrics of all hosts
+   */
+  public void reset() {
+    for (HostMetrics metrics : hosts.values())
+      metrics.reset();
+  }
+
+  /**
+   * Dump the metrics of all hosts into a file in human readable form
+   * @param file File to write, which is replaced if it exists
+   */
+  public void dumpTo(Path file) throws IOException {
+    List<String> lines = new ArrayList<>();
+    lines.add("Web request metrics as of " + Instant.now());
+
+    for (HostMetrics metrics : getHosts())
+      lines.addAll(Arrays.asList(metrics.toString().split("\n")));
+
+    Path parent = file.toAbsolutePath().getParent();
+    if (parent != null)
+      Files.createDirectories(parent);
+
+    Files.write(file, lines, StandardCharsets.UTF_8);
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Get the metrics of a request's host, which are created on first use
+   * @param uri Target of the request
+   */
+  HostMetrics of(URI uri) {
+    String host = uri.getHost();
+    return hosts.computeIfAbsent(host == null ? "" : host.toLowerCase(), HostMetrics::new);
+  }
+}
@@ -0,0 +1,79 @@
+package me.blvckbytes.bblibutil.web;
+
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  The response to a web request, made up of it's status, headers and body text.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Getter
+public class WebResponse {
+
+  private final int status;
+
+  // Header names are case insensitive
+  private final Map<String, List<String>> headers;
+
+  private final String body;
+
+  /**
+   * Create a new response
+   * @param status HTTP status code
+   * @param headers Response headers
+   * @param body Body text
+   */
+  public WebResponse(int status, Map<String, List<String>> headers, String body) {
+    this.status = status;
+    this.body = body;
+
+    TreeMap<String, List<String>> headerMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    headerMap.putAll(headers);
+    this.headers = Collections.unmodifiableMap(headerMap);
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Get the first value of a header
+   * @param name Name of the header
+   * @return Value of the header, null if absent
+   */
+  public @Nullable String getHeader(String name) {
+    List<String> values = headers.get(name);
+
+    if (values == null || values.isEmpty())
+      return null;
+
+    return values.get(0);
+  }
+
+  /**
+   * Checks whether the status represents success (2xx)
+   */
+  public boolean isSuccess() {
+    return status >= 200 && status < 300;
+  }
+}
@@ -0,0 +1,36 @@
+package me.blvckbytes.bblibutil.web;
+
+import lombok.Getter;
+
+import java.io.IOException;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 10/19/2026
+
+  Signals that a response's status didn't represent success where the
+  body would have been processed further, like when decoding or downloading.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Getter
+public class WebStatusException extends IOException {
+
+  private final int status;
+
+  public WebStatusException(int status, WebRequest request) {
+    super("Unexpected status " + status + " for " + request);
+    this.status = status;
+  }
+}